@@ -23,3 +23,13 @@ File mainDependencies = new File( basedir, 'main/target/site/dependencies.html'
 // not dep/target/classes from current build (site phase)
 assert !mainDependencies.text.contains( '<td style="text-align: left;">dep/target/classes</td>' )
 assert mainDependencies.text.contains( '<td style="text-align: left;">dep-1.0-SNAPSHOT.jar</td>' )
+
+// the dependency graphs are shared by the phases and executions of each report: each one is built once, and requested
+// again without being rebuilt
+File buildLog = new File( basedir, 'build.log' )
+def statistics = ( buildLog.text =~ /Dependency graph registry: (\d+) built, (\d+) reused/ ).collect { it }
+assert !statistics.isEmpty()
+def built = statistics[-1][1] as int
+def reused = statistics[-1][2] as int
+assert built > 0
+assert reused > 0
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.reporting.MavenReportException;
+import org.apache.maven.repository.RepositorySystem;
+import org.codehaus.plexus.i18n.I18N;
+
+/**
+ * Base class of the reports which display the name, description, url and licenses read from the POM of each
+ * dependency, with the parameters of how this metadata is read and cached.
+ *
+ * @since 3.9.1
+ */
+public abstract class AbstractDependencyMetadataReport extends AbstractProjectInfoReport {
+    // ----------------------------------------------------------------------
+    // Mojo parameters
+    // ----------------------------------------------------------------------
+
+    /**
+     * Keep the name, description, url and licenses read from the POM of each dependency in a persistent cache, so
+     * that later builds do not need to build the Maven project of dependencies whose POM did not change.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.metadataCache.enabled", defaultValue = "true")
+    protected boolean metadataCacheEnabled;
+
+    /**
+     * Directory of the persistent dependency metadata cache. Defaults to
+     * <code>.cache/maven-project-info-reports-plugin/metadata</code> inside the local repository.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.metadataCache.directory")
+    protected File metadataCacheDirectory;
+
+    /**
+     * How many minutes the persistent dependency metadata cache remembers that the Maven project of a dependency
+     * could not be built, so that later builds do not wait again for the same repository failures. With
+     * <code>0</code>, failures are only remembered during the current build.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.metadataCache.failureTtl", defaultValue = "0")
+    protected int metadataCacheFailureTtl;
+
+    /**
+     * Number of threads used to fetch the dependency metadata before the report is rendered: the POM metadata of all
+     * dependencies, and the available versions of the dependencies managed with a version range. On Java 21 and later
+     * these are virtual threads. Set to <code>1</code> to fetch them one at a time while rendering.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.metadataThreads", defaultValue = "4")
+    protected int metadataThreads;
+
+    /**
+     * How the name, description, url and licenses of each dependency are read: <code>full</code> builds the Maven
+     * project of the dependency, <code>lightweight</code> only parses its POM and the POMs of its parents, and falls
+     * back to building the Maven project when a value needs interpolation.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.metadataReader", defaultValue = "full")
+    protected String metadataReader;
+
+    protected AbstractDependencyMetadataReport(
+            RepositorySystem repositorySystem, I18N i18n, ProjectBuilder projectBuilder) {
+        super(repositorySystem, i18n, projectBuilder);
+    }
+
+    /**
+     * @param dependencyDetailsEnabled whether the dependency file details are displayed.
+     * @return the report configuration with the dependency metadata parameters.
+     * @throws MavenReportException if the metadataReader parameter is neither <code>full</code> nor
+     * <code>lightweight</code>.
+     */
+    protected DependenciesReportConfiguration createConfiguration(boolean dependencyDetailsEnabled)
+            throws MavenReportException {
+        if (!"full".equals(metadataReader) && !"lightweight".equals(metadataReader)) {
+            throw new MavenReportException(
+                    "Unsupported metadata reader: " + metadataReader + ", expected full or lightweight");
+        }
+
+        DependenciesReportConfiguration config = new DependenciesReportConfiguration(dependencyDetailsEnabled);
+        config.setMetadataCacheEnabled(metadataCacheEnabled);
+        config.setMetadataCacheDirectory(metadataCacheDirectory);
+        config.setMetadataCacheFailureTtl(metadataCacheFailureTtl);
+        config.setMetadataThreads(metadataThreads);
+        config.setLightweightMetadataReader("lightweight".equals(metadataReader));
+        return config;
+    }
+}
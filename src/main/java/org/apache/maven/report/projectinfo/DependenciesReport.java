@@ -43,6 +43,8 @@ import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.DependencyGraphRegistry;
+import org.apache.maven.report.projectinfo.dependencies.JarSummaryCache;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer;
 import org.apache.maven.reporting.MavenReportException;
@@ -62,12 +64,17 @@ import org.codehaus.plexus.util.IOUtil;
  * @since 2.0
  */
 @Mojo(name = "dependencies", requiresDependencyResolution = ResolutionScope.TEST)
-public class DependenciesReport extends AbstractProjectInfoReport {
+public class DependenciesReport extends AbstractDependencyMetadataReport {
     /**
      * Images resources dir
      */
     private static final String RESOURCES_DIR = "org/apache/maven/report/projectinfo/resources";
 
+    /**
+     * Filter of the dependency graph used by this report, in the {@link DependencyGraphRegistry}
+     */
+    private static final String GRAPH_FILTER = "scope:" + Artifact.SCOPE_TEST;
+
     // ----------------------------------------------------------------------
     // Mojo parameters
     // ----------------------------------------------------------------------
@@ -81,6 +88,64 @@ public class DependenciesReport extends AbstractProjectInfoReport {
     @Parameter(property = "dependency.details.enabled", defaultValue = "true")
     private boolean dependencyDetailsEnabled;
 
+    /**
+     * Keep the entry, class and package counts, the JDK revision and the flags displayed in the dependency file
+     * details in a persistent cache, so that the same dependency files are not analyzed again by later modules and
+     * builds. An entry is used as long as the size and the last modification time of its file did not change.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.jarCache.enabled", defaultValue = "true")
+    private boolean jarCacheEnabled;
+
+    /**
+     * Directory of the persistent dependency file details cache. Defaults to
+     * <code>.cache/maven-project-info-reports-plugin/jars</code> inside the local repository.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.jarCache.directory")
+    private File jarCacheDirectory;
+
+    /**
+     * Verify the checksum of a dependency file too, and not only its size and last modification time, before using
+     * its entry of the persistent dependency file details cache.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.jarCache.checksum", defaultValue = "false")
+    private boolean jarCacheChecksum;
+
+    /**
+     * Number of threads used to analyze the dependency files before the dependency file details are rendered. With
+     * <code>0</code>, one per available processor. Set to <code>1</code> to analyze them one at a time while
+     * rendering.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.jarAnalysisThreads", defaultValue = "0")
+    private int jarAnalysisThreads;
+
+    /**
+     * How the dependency files are analyzed: <code>full</code> parses every class, <code>lightweight</code> only
+     * reads the ZIP central directory, the manifest and the header of each class, and parses classes completely only
+     * until debug information is found. Package names then come from the entry names. Jars which the lightweight
+     * analysis cannot read, such as ZIP64 archives, are analyzed fully.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.jarAnalysis", defaultValue = "full")
+    private String jarAnalysis;
+
+    /**
+     * Add an "Introduced via" column to the transitive dependency tables, listing the dependencies through which each
+     * transitive dependency is introduced, on the shortest path from the project.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.introducedVia.enabled", defaultValue = "false")
+    private boolean introducedViaEnabled;
+
     // ----------------------------------------------------------------------
     // Mojo components
     // ----------------------------------------------------------------------
@@ -127,13 +192,24 @@ public class DependenciesReport extends AbstractProjectInfoReport {
             DependencyNode dependencyNode = resolveProject();
             Dependencies dependencies = new Dependencies(project, dependencyNode, classesAnalyzer);
             result = dependencies.hasDependencies();
+            if (!result) {
+                getGraphRegistry().release(project, DependencyGraphRegistry.RESOLVED, GRAPH_FILTER);
+            }
         }
 
         return result;
     }
 
     @Override
-    public void executeReport(Locale locale) {
+    public void executeReport(Locale locale) throws MavenReportException {
+        if (!"full".equals(jarAnalysis) && !"lightweight".equals(jarAnalysis)) {
+            throw new MavenReportException(
+                    "Unsupported jar analysis: " + jarAnalysis + ", expected full or lightweight");
+        }
+        DependenciesReportConfiguration config = createConfiguration(dependencyDetailsEnabled);
+        config.setJarAnalysisThreads(jarAnalysisThreads);
+        config.setIntroducedViaEnabled(introducedViaEnabled);
+
         try {
             copyResources(getReportOutputDirectory());
         } catch (IOException e) {
@@ -142,9 +218,10 @@ public class DependenciesReport extends AbstractProjectInfoReport {
 
         DependencyNode dependencyNode = resolveProject();
 
-        Dependencies dependencies = new Dependencies(project, dependencyNode, classesAnalyzer);
+        Dependencies dependencies = new Dependencies(
+                project, dependencyNode, classesAnalyzer, getJarSummaryCache(), "lightweight".equals(jarAnalysis));
 
-        DependenciesReportConfiguration config = new DependenciesReportConfiguration(dependencyDetailsEnabled);
+        repoUtils.prefetchProjectMetadata(dependencies.getAllDependencies(), config);
 
         DependenciesRenderer r = new DependenciesRenderer(
                 getSink(),
@@ -157,6 +234,12 @@ public class DependenciesReport extends AbstractProjectInfoReport {
                 repoUtils,
                 getLicenseMappings());
         r.render();
+
+        DependencyGraphRegistry graphRegistry = getGraphRegistry();
+        graphRegistry.release(project, DependencyGraphRegistry.RESOLVED, GRAPH_FILTER);
+        getLog().debug(graphRegistry.getStatistics());
+
+        repoUtils.logProjectMetadataSummary(getLog());
     }
 
     /**
@@ -176,21 +259,44 @@ public class DependenciesReport extends AbstractProjectInfoReport {
     // ----------------------------------------------------------------------
 
     /**
-     * @return resolve the dependency tree
+     * @return the persistent dependency file details cache, <code>null</code> if disabled.
+     */
+    private JarSummaryCache getJarSummaryCache() {
+        if (!jarCacheEnabled || !dependencyDetailsEnabled) {
+            return null;
+        }
+
+        File directory = jarCacheDirectory;
+        if (directory == null) {
+            directory = new File(
+                    getSession().getRepositorySession().getLocalRepository().getBasedir(),
+                    ".cache/maven-project-info-reports-plugin/jars");
+        }
+        return new JarSummaryCache(directory, jarCacheChecksum);
+    }
+
+    /**
+     * @return resolve the dependency tree, shared by {@link #canGenerateReport()} and {@link #executeReport(Locale)}
      */
     private DependencyNode resolveProject() {
         try {
-            ArtifactFilter artifactFilter = new ScopeArtifactFilter(Artifact.SCOPE_TEST);
-            ProjectBuildingRequest buildingRequest =
-                    new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
-            buildingRequest.setProject(project);
-            return dependencyGraphBuilder.buildDependencyGraph(buildingRequest, artifactFilter);
+            return getGraphRegistry().get(project, DependencyGraphRegistry.RESOLVED, GRAPH_FILTER, () -> {
+                ArtifactFilter artifactFilter = new ScopeArtifactFilter(Artifact.SCOPE_TEST);
+                ProjectBuildingRequest buildingRequest =
+                        new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
+                buildingRequest.setProject(project);
+                return dependencyGraphBuilder.buildDependencyGraph(buildingRequest, artifactFilter);
+            });
         } catch (DependencyGraphBuilderException e) {
             getLog().error("Unable to build dependency tree.", e);
             return null;
         }
     }
 
+    private DependencyGraphRegistry getGraphRegistry() {
+        return DependencyGraphRegistry.of(getSession().getRepositorySession());
+    }
+
     /**
      * @param outputDirectory the wanted output directory
      * @throws IOException if any
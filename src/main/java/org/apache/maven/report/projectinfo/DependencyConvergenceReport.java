@@ -20,47 +20,55 @@ package org.apache.maven.report.projectinfo;
 
 import javax.inject.Inject;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.doxia.sink.SinkEventAttributes;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingRequest;
-import org.apache.maven.report.projectinfo.dependencies.DependencyVersionMap;
+import org.apache.maven.report.projectinfo.dependencies.CompactDependencyGraph;
+import org.apache.maven.report.projectinfo.dependencies.CompactDependencyGraph.Inclusion;
+import org.apache.maven.report.projectinfo.dependencies.ConvergenceRecord;
+import org.apache.maven.report.projectinfo.dependencies.ConvergenceSpill;
+import org.apache.maven.report.projectinfo.dependencies.ConvergenceSummary;
+import org.apache.maven.report.projectinfo.dependencies.CoordinateTable;
+import org.apache.maven.report.projectinfo.dependencies.DependencyGraphRegistry;
+import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.SinkSerializingDependencyNodeVisitor;
 import org.apache.maven.reporting.MavenReportException;
 import org.apache.maven.repository.RepositorySystem;
-import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilderException;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.dependency.graph.filter.AncestorOrSelfDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.AndDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.ArtifactDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.DependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.traversal.BuildingDependencyNodeVisitor;
-import org.apache.maven.shared.dependency.graph.traversal.CollectingDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
-import org.apache.maven.shared.dependency.graph.traversal.FilteringDependencyNodeVisitor;
 import org.codehaus.plexus.i18n.I18N;
+import org.eclipse.aether.repository.RemoteRepository;
 
 /**
  * Generates the Project Dependency Convergence report for (reactor) builds.
@@ -84,14 +92,94 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
 
     private static final int FULL_CONVERGENCE = 100;
 
-    private ArtifactFilter filter = null;
+    /**
+     * Filter of the dependency graphs used by this report, in the {@link DependencyGraphRegistry}
+     */
+    private static final String GRAPH_FILTER = "none";
 
-    private Map<MavenProject, DependencyNode> projectMap = new HashMap<>();
+    /**
+     * Version of the analysis recorded for incremental builds, to change when the analysis changes.
+     */
+    private static final String RECORD_FORMAT = "1";
+
+    /**
+     * Number of lines of a run file of the spill.
+     */
+    private static final int SPILL_RUN_SIZE = 100000;
+
+    private ArtifactFilter filter = null;
 
     // ----------------------------------------------------------------------
     // Mojo parameters
     // ----------------------------------------------------------------------
 
+    /**
+     * Number of threads used to collect the dependency trees of the reactor projects. On Java 21 and later these are
+     * virtual threads. Set to <code>1</code> to collect them one after the other.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyGraphThreads", defaultValue = "4")
+    private int dependencyGraphThreads;
+
+    /**
+     * Reuse the analysis of the modules whose dependency tree inputs did not change since the previous build, instead
+     * of collecting their dependency tree again. The analysis of each module is recorded in its build directory, with
+     * a fingerprint of its coordinates, parents, repositories, declared and managed dependencies and of the reactor
+     * modules it depends on. Modules with version ranges, or with snapshot dependencies from outside of the reactor,
+     * are always collected again.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.incremental", defaultValue = "false")
+    private boolean incrementalConvergence;
+
+    /**
+     * Only analyze the dependency convergence, for a build gate: the result is written to
+     * {@link #convergenceResultDirectory} in the {@link #convergenceResultFormat} format and the report is not
+     * rendered.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.gate", defaultValue = "false")
+    private boolean convergenceGate;
+
+    /**
+     * Format of the result written in gate mode, <code>json</code> or <code>csv</code>.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.resultFormat", defaultValue = "json")
+    private String convergenceResultFormat;
+
+    /**
+     * Directory of the <code>dependency-convergence.json</code> or <code>dependency-convergence.csv</code> result
+     * written in gate mode.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.resultDirectory", defaultValue = "${project.build.directory}")
+    private File convergenceResultDirectory;
+
+    /**
+     * Minimum dependency convergence, in percent, from <code>0</code> to <code>100</code>: the build fails if the
+     * convergence of the reactor is lower. The default <code>0</code> never fails.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.minimum", defaultValue = "0")
+    private int minimumConvergence;
+
+    /**
+     * Merge the analysis of the modules through sorted run files on disk instead of in memory, for very large
+     * reactors. The dependency trees are collected a few at a time, and only the trees of the modules with
+     * conflicting or SNAPSHOT dependencies are kept to render the details. The report is the same.
+     *
+     * @since 3.9.1
+     */
+    @Parameter(property = "mpir.dependencyConvergence.spill", defaultValue = "false")
+    private boolean spillConvergence;
+
     /**
      * Raw dependency collector builder, will use it to build dependency tree.
      */
@@ -129,6 +217,52 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
 
     @Override
     protected void executeReport(Locale locale) throws MavenReportException {
+        if (!ConvergenceSummary.isSupportedFormat(convergenceResultFormat)) {
+            throw new MavenReportException("Unsupported dependency convergence result format: "
+                    + convergenceResultFormat + ", expected " + ConvergenceSummary.JSON + " or "
+                    + ConvergenceSummary.CSV);
+        }
+        if (minimumConvergence < 0 || minimumConvergence > FULL_CONVERGENCE) {
+            throw new MavenReportException("Invalid minimum dependency convergence: " + minimumConvergence
+                    + " %, expected 0 to " + FULL_CONVERGENCE + " %");
+        }
+
+        DependencyAnalyzeResult dependencyResult;
+        int convergence;
+        try {
+            dependencyResult = analyzeDependencyTree();
+            convergence = calculateConvergence(dependencyResult);
+
+            if (convergenceGate) {
+                // no rendering: the result is the summary, and the build fails below the minimum
+                writeConvergenceSummary(dependencyResult, convergence);
+            } else {
+                renderReport(locale, dependencyResult, convergence);
+            }
+        } finally {
+            if (isLastExecution()) {
+                releaseGraphs();
+            }
+        }
+
+        if (dependencyResult.getArtifactCount() > 0 && convergence < minimumConvergence) {
+            throw new MavenReportException("Dependency convergence of " + convergence
+                    + " % is lower than the minimum of " + minimumConvergence + " %");
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Render the report of the analysis.
+     *
+     * @param locale
+     * @param dependencyResult
+     * @param convergence
+     */
+    private void renderReport(Locale locale, DependencyAnalyzeResult dependencyResult, int convergence) {
         try (Sink sink = getSink()) {
             sink.head();
             sink.title();
@@ -156,9 +290,6 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
 
             sink.sectionTitle1_();
 
-            DependencyAnalyzeResult dependencyResult = analyzeDependencyTree();
-            int convergence = calculateConvergence(dependencyResult);
-
             if (convergence < FULL_CONVERGENCE) {
                 // legend
                 generateLegend(locale, sink);
@@ -179,45 +310,47 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         }
     }
 
-    // ----------------------------------------------------------------------
-    // Private methods
-    // ----------------------------------------------------------------------
-
     /**
-     * Get snapshots dependencies from all dependency map.
+     * Write the result of the analysis for a build gate.
      *
-     * @param dependencyMap
-     * @return snapshots dependencies
+     * @param result
+     * @param convergence
+     * @throws MavenReportException if the result cannot be written
      */
-    private List<ReverseDependencyLink> getSnapshotDependencies(
-            Map<String, List<ReverseDependencyLink>> dependencyMap) {
-        List<ReverseDependencyLink> snapshots = new ArrayList<>();
-        for (Map.Entry<String, List<ReverseDependencyLink>> entry : dependencyMap.entrySet()) {
-            List<ReverseDependencyLink> depList = entry.getValue();
-            Map<String, List<ReverseDependencyLink>> artifactMap = getSortedUniqueArtifactMap(depList);
-            for (Map.Entry<String, List<ReverseDependencyLink>> artEntry : artifactMap.entrySet()) {
-                String version = artEntry.getKey();
-                boolean isReactorProject = false;
-
-                Iterator<ReverseDependencyLink> iterator = artEntry.getValue().iterator();
-                // It if enough to check just the first dependency here, because
-                // the dependency is the same in all the RDLs in the List. It's the
-                // reactorProjects that are different.
-                ReverseDependencyLink rdl = null;
-                if (iterator.hasNext()) {
-                    rdl = iterator.next();
-                    if (isReactorProject(rdl.getDependency())) {
-                        isReactorProject = true;
-                    }
-                }
+    private void writeConvergenceSummary(DependencyAnalyzeResult result, int convergence) throws MavenReportException {
+        ConvergenceSummary summary = new ConvergenceSummary(
+                reactorProjects.size(), result.getDependencyCount(), result.getArtifactCount(), convergence);
 
-                if (version.endsWith("-SNAPSHOT") && !isReactorProject && rdl != null) {
-                    snapshots.add(rdl);
+        for (Map.Entry<String, List<ReverseDependencyLink>> entry :
+                result.getConflicting().entrySet()) {
+            Map<String, List<ReverseDependencyLink>> artifactMap = getSortedUniqueArtifactMap(entry.getValue());
+            for (Map.Entry<String, List<ReverseDependencyLink>> version : artifactMap.entrySet()) {
+                Set<String> modules = new LinkedHashSet<>();
+                for (ReverseDependencyLink link : version.getValue()) {
+                    modules.add(link.getProject().getId());
                 }
+                summary.addConflict(entry.getKey(), version.getKey(), new ArrayList<>(modules));
             }
         }
 
-        return snapshots;
+        for (ReverseDependencyLink link : result.getSnapshots()) {
+            Dependency dependency = link.getDependency();
+            summary.addSnapshot(
+                    dependency.getGroupId() + ":" + dependency.getArtifactId(),
+                    dependency.getVersion(),
+                    link.getProject().getId());
+        }
+
+        File resultFile = new File(convergenceResultDirectory, "dependency-convergence." + convergenceResultFormat);
+        try {
+            summary.write(resultFile, convergenceResultFormat);
+        } catch (IOException e) {
+            throw new MavenReportException("Unable to write " + resultFile + ": " + e.getMessage(), e);
+        }
+
+        getLog().info("Dependency convergence: " + convergence + " %, " + result.getConflicting().size()
+                + " conflicting and " + result.getSnapshots().size() + " SNAPSHOT dependencies, written to "
+                + resultFile);
     }
 
     /**
@@ -308,7 +441,7 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
             sink.tableCell_();
 
             sink.tableCell();
-            generateVersionDetails(sink, artifactMap, version);
+            generateVersionDetails(locale, sink, artifactMap, version);
             sink.tableCell_();
 
             sink.tableRow_();
@@ -327,30 +460,33 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     /**
      * Generate version details for a given dependency
      *
+     * @param locale
      * @param sink
      * @param artifactMap
      * @param version
      */
     private void generateVersionDetails(
-            Sink sink, Map<String, List<ReverseDependencyLink>> artifactMap, String version) {
+            Locale locale, Sink sink, Map<String, List<ReverseDependencyLink>> artifactMap, String version) {
         sink.numberedList(0); // Use lower alpha numbering
         List<ReverseDependencyLink> depList = artifactMap.get(version);
 
-        List<DependencyNode> projectNodes = getProjectNodes(depList);
+        CompactDependencyGraph graph = getCompactGraph();
+        List<Integer> projectRoots = getProjectRoots(graph, depList);
 
-        if (projectNodes.isEmpty()) {
+        if (projectRoots.isEmpty()) {
             getLog().warn("Can't find project nodes for dependency list: "
                     + depList.get(0).getDependency());
             return;
         }
-        Collections.sort(projectNodes, new DependencyNodeComparator());
+        projectRoots.sort(Comparator.comparing(root -> graph.getArtifact(root).getId()));
 
-        for (DependencyNode projectNode : projectNodes) {
+        for (int projectRoot : projectRoots) {
             if (isReactorBuild()) {
                 sink.numberedListItem();
             }
 
-            showVersionDetails(projectNode, depList, sink);
+            showVersionDetails(graph, projectRoot, depList, sink);
+            showInclusion(locale, graph, projectRoot, depList.get(0).getDependency(), sink);
 
             if (isReactorBuild()) {
                 sink.numberedListItem_();
@@ -362,77 +498,79 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         sink.numberedList_();
     }
 
-    private List<DependencyNode> getProjectNodes(List<ReverseDependencyLink> depList) {
-        List<DependencyNode> projectNodes = new ArrayList<>();
+    private List<Integer> getProjectRoots(CompactDependencyGraph graph, List<ReverseDependencyLink> depList) {
+        List<Integer> projectRoots = new ArrayList<>();
 
         for (ReverseDependencyLink depLink : depList) {
-            MavenProject project = depLink.getProject();
-            DependencyNode projectNode = this.projectMap.get(project);
+            int projectRoot = graph.getRoot(depLink.getProject());
 
-            if (projectNode != null && !projectNodes.contains(projectNode)) {
-                projectNodes.add(projectNode);
+            if (projectRoot >= 0 && !projectRoots.contains(projectRoot)) {
+                projectRoots.add(projectRoot);
             }
         }
-        return projectNodes;
+        return projectRoots;
     }
 
-    private void showVersionDetails(DependencyNode projectNode, List<ReverseDependencyLink> depList, Sink sink) {
+    private void showVersionDetails(
+            CompactDependencyGraph graph, int projectRoot, List<ReverseDependencyLink> depList, Sink sink) {
         if (depList == null || depList.isEmpty()) {
             return;
         }
 
         Dependency dependency = depList.get(0).getDependency();
-        String key = dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getType() + ":"
-                + dependency.getVersion();
-
-        serializeDependencyTree(projectNode, key, sink);
-    }
-
-    /**
-     * Serializes the specified dependency tree to a string.
-     *
-     * @param rootNode the dependency tree root node to serialize
-     * @return the serialized dependency tree
-     */
-    private void serializeDependencyTree(DependencyNode rootNode, String key, Sink sink) {
-        DependencyNodeVisitor visitor = getSerializingDependencyNodeVisitor(sink);
-
-        visitor = new BuildingDependencyNodeVisitor(visitor);
-
-        DependencyNodeFilter nodeFilter = createDependencyNodeFilter(key);
-
-        if (nodeFilter != null) {
-            CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
-            DependencyNodeVisitor firstPassVisitor = new FilteringDependencyNodeVisitor(collectingVisitor, nodeFilter);
-            rootNode.accept(firstPassVisitor);
-
-            DependencyNodeFilter secondPassFilter =
-                    new AncestorOrSelfDependencyNodeFilter(collectingVisitor.getNodes());
-            visitor = new FilteringDependencyNodeVisitor(visitor, secondPassFilter);
+        DependencyNode pathTree = graph.getPathTree(
+                projectRoot,
+                dependency.getGroupId(),
+                dependency.getArtifactId(),
+                dependency.getType(),
+                dependency.getVersion());
+
+        if (pathTree != null) {
+            pathTree.accept(getSerializingDependencyNodeVisitor(sink));
         }
-
-        rootNode.accept(visitor);
     }
 
     /**
-     * Gets the dependency node filter to use when serializing the dependency graph.
+     * Show the shortest path through which a version of a dependency is introduced in a module, and the version
+     * selected by nearest wins, from the reverse edges of the {@link CompactDependencyGraph}.
      *
-     * @return the dependency node filter, or <code>null</code> if none required
+     * @param locale
+     * @param graph
+     * @param projectRoot
+     * @param dependency
+     * @param sink
      */
-    private DependencyNodeFilter createDependencyNodeFilter(String includes) {
-        List<DependencyNodeFilter> filters = new ArrayList<>();
-
-        // filter includes
-        if (includes != null) {
-            List<String> patterns = Arrays.asList(includes.split(","));
-
-            getLog().debug("+ Filtering dependency tree by artifact include patterns: " + patterns);
-
-            ArtifactFilter artifactFilter = new StrictPatternIncludesArtifactFilter(patterns);
-            filters.add(new ArtifactDependencyNodeFilter(artifactFilter));
+    private void showInclusion(
+            Locale locale, CompactDependencyGraph graph, int projectRoot, Dependency dependency, Sink sink) {
+        List<Inclusion> inclusions =
+                graph.getInclusions(projectRoot, dependency.getGroupId(), dependency.getArtifactId());
+
+        for (Inclusion inclusion : inclusions) {
+            if (inclusion.getVersion().equals(dependency.getVersion())) {
+                sink.bold();
+                sink.text(getI18nString(locale, "introducedvia") + ": ");
+                sink.bold_();
+                if (inclusion.getDepth() == 1) {
+                    sink.text(getI18nString(locale, "introducedvia.direct"));
+                } else {
+                    List<Artifact> path = inclusion.getPath();
+                    StringBuilder sb = new StringBuilder();
+                    for (Artifact artifact : path.subList(1, path.size() - 1)) {
+                        sb.append(sb.length() > 0 ? " > " : "").append(artifact.getId());
+                    }
+                    sink.text(sb.toString());
+                }
+                sink.lineBreak();
+            }
         }
 
-        return filters.isEmpty() ? null : new AndDependencyNodeFilter(filters);
+        if (!inclusions.isEmpty()) {
+            sink.bold();
+            sink.text(getI18nString(locale, "nearestwins") + ": ");
+            sink.bold_();
+            sink.text(inclusions.get(0).getVersion());
+            sink.lineBreak();
+        }
     }
 
     /**
@@ -629,25 +767,6 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         sink.table_();
     }
 
-    /**
-     * Check to see if the specified dependency is among the reactor projects.
-     *
-     * @param dependency The dependency to check
-     * @return true if and only if the dependency is a reactor project
-     */
-    private boolean isReactorProject(Dependency dependency) {
-        for (MavenProject mavenProject : reactorProjects) {
-            if (mavenProject.getGroupId().equals(dependency.getGroupId())
-                    && mavenProject.getArtifactId().equals(dependency.getArtifactId())) {
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug(dependency + " is a reactor project");
-                }
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean isReactorBuild() {
         return this.reactorProjects.size() > 1;
     }
@@ -686,111 +805,298 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      * @throws MavenReportException
      */
     private DependencyAnalyzeResult analyzeDependencyTree() throws MavenReportException {
-        Map<String, List<ReverseDependencyLink>> conflictingDependencyMap = new TreeMap<>();
-        Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<>();
-
-        ProjectBuildingRequest buildingRequest =
-                new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
+        DependencyAnalyzer analyzer = new DependencyAnalyzer(reactorProjects);
 
+        Map<String, MavenProject> reactorProjectsByKey = new HashMap<>();
         for (MavenProject reactorProject : reactorProjects) {
-            buildingRequest.setProject(reactorProject);
+            String key = reactorProject.getGroupId() + ":" + reactorProject.getArtifactId();
+            reactorProjectsByKey.put(key, reactorProject);
+        }
 
-            DependencyNode node = getNode(buildingRequest);
+        Map<MavenProject, String> fingerprints = new HashMap<>();
+        Map<MavenProject, ConvergenceRecord> records = new HashMap<>();
+        Map<MavenProject, Integer> moduleIndexes = new HashMap<>();
+        List<MavenProject> changedProjects = new ArrayList<>();
+
+        DependencyAnalyzeResult result;
+        try (ConvergenceSpill spill = spillConvergence ? newSpill() : null) {
+            for (int i = 0; i < reactorProjects.size(); i++) {
+                MavenProject reactorProject = reactorProjects.get(i);
+                moduleIndexes.put(reactorProject, i);
+
+                File recordFile = getRecordFile(reactorProject);
+                String fingerprint = recordFile != null
+                        ? getFingerprint(reactorProject, reactorProjectsByKey, fingerprints)
+                        : null;
+                ConvergenceRecord record = null;
+                if (fingerprint != null) {
+                    record = ConvergenceRecord.read(recordFile);
+                }
+
+                if (record != null && fingerprint.equals(record.getFingerprint()) && analyzer.isReusable(record)) {
+                    if (spill != null) {
+                        spill.add(i, record);
+                    } else {
+                        records.put(reactorProject, record);
+                    }
+                } else {
+                    changedProjects.add(reactorProject);
+                }
+            }
+
+            if (spill != null) {
+                spillChangedProjects(analyzer, changedProjects, fingerprints, moduleIndexes, spill);
+
+                SpillMerger merger = new SpillMerger(reactorProjects, reactorProjectsByKey.keySet());
+                spill.merge(merger);
+                result = merger.getResult();
+            } else {
+                CompactDependencyGraph graph = getCompactGraph();
+                List<Integer> roots = getRoots(changedProjects);
 
-            this.projectMap.put(reactorProject, node);
+                for (int i = 0; i < changedProjects.size(); i++) {
+                    MavenProject reactorProject = changedProjects.get(i);
 
-            getConflictingDependencyMap(conflictingDependencyMap, reactorProject, node);
+                    ConvergenceRecord record =
+                            analyzer.analyze(fingerprints.get(reactorProject), graph, roots.get(i));
+                    writeRecord(reactorProject, record);
+                    records.put(reactorProject, record);
+                }
+
+                for (MavenProject reactorProject : reactorProjects) {
+                    analyzer.merge(reactorProject, records.get(reactorProject));
+                }
+
+                result = analyzer.getResult();
+            }
+        } catch (IOException e) {
+            throw new MavenReportException("Unable to spill the dependency convergence analysis: " + e.getMessage(), e);
+        }
+
+        if (incrementalConvergence) {
+            getLog().info("Dependency convergence: reused the analysis of "
+                    + (reactorProjects.size() - changedProjects.size()) + " of " + reactorProjects.size()
+                    + " modules");
+        }
+
+        if ((incrementalConvergence || spillConvergence) && !convergenceGate) {
+            // the details of conflicts and snapshots are rendered from the trees of the modules involved
+            CompactDependencyGraph graph = getCompactGraph();
+            Set<MavenProject> detailProjects = new LinkedHashSet<>();
+            for (List<ReverseDependencyLink> dependencyList : result.getConflicting().values()) {
+                for (ReverseDependencyLink link : dependencyList) {
+                    detailProjects.add(link.getProject());
+                }
+            }
+            for (ReverseDependencyLink link : result.getSnapshots()) {
+                detailProjects.add(link.getProject());
+            }
+            detailProjects.removeIf(detailProject -> graph.getRoot(detailProject) >= 0);
 
-            getAllDependencyMap(allDependencies, reactorProject, node);
+            getRoots(new ArrayList<>(detailProjects));
         }
 
-        return populateDependencyAnalyzeResult(conflictingDependencyMap, allDependencies);
+        return result;
     }
 
     /**
-     * Produce DependencyAnalyzeResult base on conflicting dependencies map, all dependencies map.
+     * Analyze the changed projects into the spill. Their trees are collected a few at a time, and only the trees of
+     * the projects with details to render are kept in the {@link CompactDependencyGraph}.
      *
-     * @param conflictingDependencyMap
-     * @param allDependencies
-     * @return DependencyAnalyzeResult contains conflicting dependencies map, snapshot dependencies map and all
-     * dependencies map.
+     * @param analyzer
+     * @param changedProjects
+     * @param fingerprints
+     * @param moduleIndexes the index of each reactor project
+     * @param spill
+     * @throws MavenReportException
+     * @throws IOException if the spill cannot be written
      */
-    private DependencyAnalyzeResult populateDependencyAnalyzeResult(
-            Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
-            Map<String, List<ReverseDependencyLink>> allDependencies) {
-        DependencyAnalyzeResult dependencyResult = new DependencyAnalyzeResult();
+    private void spillChangedProjects(
+            DependencyAnalyzer analyzer,
+            List<MavenProject> changedProjects,
+            Map<MavenProject, String> fingerprints,
+            Map<MavenProject, Integer> moduleIndexes,
+            ConvergenceSpill spill)
+            throws MavenReportException, IOException {
+        DependencyGraphRegistry graphRegistry = getGraphRegistry();
+        CompactDependencyGraph graph = getCompactGraph();
+
+        List<MavenProject> collectedProjects = new ArrayList<>();
+        for (MavenProject reactorProject : changedProjects) {
+            int root = graph.getRoot(reactorProject);
+            if (root >= 0) {
+                // already kept by a previous execution of the report
+                ConvergenceRecord record = analyzer.analyze(fingerprints.get(reactorProject), graph, root);
+                writeRecord(reactorProject, record);
+                spill.add(moduleIndexes.get(reactorProject), record);
+            } else {
+                collectedProjects.add(reactorProject);
+            }
+        }
+
+        int chunkSize = Math.max(1, dependencyGraphThreads);
+        for (int from = 0; from < collectedProjects.size(); from += chunkSize) {
+            List<MavenProject> chunk =
+                    collectedProjects.subList(from, Math.min(from + chunkSize, collectedProjects.size()));
+            List<DependencyNode> trees = getTrees(chunk);
 
-        dependencyResult.setAll(allDependencies);
-        dependencyResult.setConflicting(conflictingDependencyMap);
+            for (int i = 0; i < chunk.size(); i++) {
+                MavenProject reactorProject = chunk.get(i);
+                DependencyNode tree = trees.get(i);
 
-        List<ReverseDependencyLink> snapshots = getSnapshotDependencies(allDependencies);
-        dependencyResult.setSnapshots(snapshots);
-        return dependencyResult;
+                CompactDependencyGraph moduleGraph = new CompactDependencyGraph();
+                int root = moduleGraph.add(reactorProject, tree);
+                ConvergenceRecord record = analyzer.analyze(fingerprints.get(reactorProject), moduleGraph, root);
+                writeRecord(reactorProject, record);
+                spill.add(moduleIndexes.get(reactorProject), record);
+
+                if (!convergenceGate && analyzer.hasDetails(record)) {
+                    graph.add(reactorProject, tree);
+                }
+                graphRegistry.release(reactorProject, DependencyGraphRegistry.COLLECTED, GRAPH_FILTER);
+            }
+        }
+    }
+
+    /**
+     * @return a spill in the build directory of the project, or in the temporary directory if there is none
+     * @throws IOException if its directory cannot be created
+     */
+    private ConvergenceSpill newSpill() throws IOException {
+        File parentDirectory = null;
+        if (project.getBuild() != null && project.getBuild().getDirectory() != null) {
+            parentDirectory = new File(project.getBuild().getDirectory(), "mpir");
+        }
+        return new ConvergenceSpill(parentDirectory, SPILL_RUN_SIZE);
     }
 
     /**
-     * Get conflicting dependency map base on specified dependency node.
+     * The fingerprint of the inputs of the dependency tree of a reactor project: its coordinates, parents,
+     * repositories, declared and managed dependencies, and the fingerprints of the reactor projects it depends on.
      *
-     * @param conflictingDependencyMap
      * @param reactorProject
-     * @param node
+     * @param reactorProjectsByKey the reactor projects by groupId:artifactId
+     * @param fingerprints the fingerprints already computed
+     * @return the fingerprint, or <code>null</code> if the tree may change with the same inputs, like with a version
+     * range or an external snapshot dependency
      */
-    private void getConflictingDependencyMap(
-            Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
+    private String getFingerprint(
             MavenProject reactorProject,
-            DependencyNode node) {
-        DependencyVersionMap visitor = new DependencyVersionMap();
-        visitor.setUniqueVersions(true);
-
-        node.accept(visitor);
+            Map<String, MavenProject> reactorProjectsByKey,
+            Map<MavenProject, String> fingerprints) {
+        if (fingerprints.containsKey(reactorProject)) {
+            return fingerprints.get(reactorProject);
+        }
+        // not reusable while computed, in case of a cycle
+        fingerprints.put(reactorProject, null);
+
+        List<String> inputs = new ArrayList<>();
+        inputs.add("record " + RECORD_FORMAT);
+        inputs.add("maven " + getSession().getSystemProperties().getProperty("maven.version"));
+        if (getMojoExecution() != null) {
+            inputs.add("plugin " + getMojoExecution().getMojoDescriptor().getPluginDescriptor().getVersion());
+        }
+        inputs.add("project " + reactorProject.getId());
 
-        for (List<DependencyNode> nodes : visitor.getConflictedVersionNumbers()) {
-            DependencyNode dependencyNode = nodes.get(0);
+        for (MavenProject parent = reactorProject.getParent(); parent != null; parent = parent.getParent()) {
+            inputs.add("parent " + parent.getId());
+        }
 
-            String key = dependencyNode.getArtifact().getGroupId() + ":"
-                    + dependencyNode.getArtifact().getArtifactId();
+        if (reactorProject.getRemoteProjectRepositories() != null) {
+            for (RemoteRepository repository : reactorProject.getRemoteProjectRepositories()) {
+                inputs.add("repository " + repository);
+            }
+        }
 
-            List<ReverseDependencyLink> dependencyList = conflictingDependencyMap.get(key);
-            if (dependencyList == null) {
-                dependencyList = new ArrayList<>();
+        for (Dependency dependency : reactorProject.getDependencies()) {
+            MavenProject dependencyProject = getReactorProject(dependency, reactorProjectsByKey);
+            if (!isFixedVersion(dependency.getVersion(), dependencyProject)) {
+                return null;
             }
+            inputs.add("dependency " + getFingerprintInput(dependency));
 
-            dependencyList.add(new ReverseDependencyLink(toDependency(dependencyNode.getArtifact()), reactorProject));
+            if (dependencyProject != null) {
+                String fingerprint = getFingerprint(dependencyProject, reactorProjectsByKey, fingerprints);
+                if (fingerprint == null) {
+                    return null;
+                }
+                inputs.add("reactor " + fingerprint);
+            }
+        }
 
-            for (DependencyNode workNode : nodes.subList(1, nodes.size())) {
-                dependencyList.add(new ReverseDependencyLink(toDependency(workNode.getArtifact()), reactorProject));
+        if (reactorProject.getDependencyManagement() != null) {
+            for (Dependency dependency : reactorProject.getDependencyManagement().getDependencies()) {
+                if (!isFixedVersion(dependency.getVersion(), getReactorProject(dependency, reactorProjectsByKey))) {
+                    return null;
+                }
+                inputs.add("managed " + getFingerprintInput(dependency));
             }
+        }
 
-            conflictingDependencyMap.put(key, dependencyList);
+        String fingerprint = ConvergenceRecord.fingerprint(inputs);
+        fingerprints.put(reactorProject, fingerprint);
+        return fingerprint;
+    }
+
+    private static String getFingerprintInput(Dependency dependency) {
+        StringBuilder sb = new StringBuilder(dependency.getManagementKey());
+        sb.append(':').append(dependency.getVersion());
+        sb.append(':').append(dependency.getScope());
+        sb.append(':').append(dependency.isOptional());
+        sb.append(':').append(dependency.getSystemPath());
+        for (Exclusion exclusion : dependency.getExclusions()) {
+            sb.append(" -").append(exclusion.getGroupId()).append(':').append(exclusion.getArtifactId());
         }
+        return sb.toString();
     }
 
     /**
-     * Get all dependencies (both directive & transitive dependencies) by specified dependency node.
-     *
-     * @param allDependencies
-     * @param reactorProject
-     * @param node
+     * @param dependency
+     * @param reactorProjectsByKey the reactor projects by groupId:artifactId
+     * @return the reactor project of the dependency, or <code>null</code> if it is not built in this reactor
      */
-    private void getAllDependencyMap(
-            Map<String, List<ReverseDependencyLink>> allDependencies,
-            MavenProject reactorProject,
-            DependencyNode node) {
-        Set<Artifact> artifacts = getAllDescendants(node);
-
-        for (Artifact art : artifacts) {
-            String key = art.getGroupId() + ":" + art.getArtifactId();
+    private static MavenProject getReactorProject(
+            Dependency dependency, Map<String, MavenProject> reactorProjectsByKey) {
+        MavenProject reactorProject =
+                reactorProjectsByKey.get(dependency.getGroupId() + ":" + dependency.getArtifactId());
+        if (reactorProject != null && reactorProject.getVersion().equals(dependency.getVersion())) {
+            return reactorProject;
+        }
+        return null;
+    }
 
-            List<ReverseDependencyLink> reverseDepependencies = allDependencies.get(key);
-            if (reverseDepependencies == null) {
-                reverseDepependencies = new ArrayList<>();
-            }
+    /**
+     * @param version
+     * @param reactorProject the reactor project with this version, <code>null</code> for an external dependency
+     * @return <code>true</code> if the version always designates the same POM: not a range, nor an external snapshot
+     * which may be deployed again
+     */
+    private static boolean isFixedVersion(String version, MavenProject reactorProject) {
+        return version != null
+                && !version.startsWith("[")
+                && !version.startsWith("(")
+                && !"LATEST".equals(version)
+                && !"RELEASE".equals(version)
+                && (reactorProject != null || !ArtifactUtils.isSnapshot(version));
+    }
 
-            if (!containsDependency(reverseDepependencies, art)) {
-                reverseDepependencies.add(new ReverseDependencyLink(toDependency(art), reactorProject));
-            }
+    /**
+     * @param reactorProject
+     * @return the file of the recorded analysis of the project, or <code>null</code> if not incremental
+     */
+    private File getRecordFile(MavenProject reactorProject) {
+        if (!incrementalConvergence
+                || reactorProject.getBuild() == null
+                || reactorProject.getBuild().getDirectory() == null) {
+            return null;
+        }
+        return new File(reactorProject.getBuild().getDirectory(), "mpir/dependency-convergence.properties");
+    }
 
-            allDependencies.put(key, reverseDepependencies);
+    private void writeRecord(MavenProject reactorProject, ConvergenceRecord record) {
+        File recordFile = getRecordFile(reactorProject);
+        if (recordFile != null) {
+            record.write(recordFile);
         }
     }
 
@@ -800,72 +1106,193 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      * @param artifact
      * @return Dependency object
      */
-    private Dependency toDependency(Artifact artifact) {
+    private static Dependency toDependency(Artifact artifact) {
         Dependency dependency = new Dependency();
         dependency.setGroupId(artifact.getGroupId());
         dependency.setArtifactId(artifact.getArtifactId());
         dependency.setVersion(artifact.getVersion());
         dependency.setClassifier(artifact.getClassifier());
         dependency.setScope(artifact.getScope());
-
         return dependency;
     }
 
     /**
-     * To check whether dependency list contains a given artifact.
+     * Get the root nodes of the dependency trees of reactor projects in the {@link CompactDependencyGraph}, in the
+     * same order. The missing trees are collected concurrently when more than one thread is configured.
+     *
+     * @param projects
+     * @return ids of the root nodes of dependency trees
+     * @throws MavenReportException
+     */
+    private List<Integer> getRoots(List<MavenProject> projects) throws MavenReportException {
+        DependencyGraphRegistry graphRegistry = getGraphRegistry();
+        CompactDependencyGraph graph = getCompactGraph();
+        ProjectBuildingRequest sessionRequest = getSession().getProjectBuildingRequest();
+
+        return forEachProject(
+                projects, reactorProject -> getRoot(graphRegistry, graph, sessionRequest, reactorProject));
+    }
+
+    /**
+     * Get the dependency trees of reactor projects, in the same order, without adding them to the
+     * {@link CompactDependencyGraph}: they stay in the {@link DependencyGraphRegistry} until released.
      *
-     * @param reverseDependencies
-     * @param art
-     * @return contains:true; Not contains:false;
+     * @param projects
+     * @return the root nodes of dependency trees
+     * @throws MavenReportException
      */
-    private boolean containsDependency(List<ReverseDependencyLink> reverseDependencies, Artifact art) {
+    private List<DependencyNode> getTrees(List<MavenProject> projects) throws MavenReportException {
+        DependencyGraphRegistry graphRegistry = getGraphRegistry();
+        ProjectBuildingRequest sessionRequest = getSession().getProjectBuildingRequest();
+
+        return forEachProject(projects, reactorProject -> getTree(graphRegistry, sessionRequest, reactorProject));
+    }
 
-        for (ReverseDependencyLink revDependency : reverseDependencies) {
-            Dependency dep = revDependency.getDependency();
-            if (dep.getGroupId().equals(art.getGroupId())
-                    && dep.getArtifactId().equals(art.getArtifactId())
-                    && dep.getVersion().equals(art.getVersion())) {
-                return true;
+    /**
+     * Internal function of a reactor project.
+     */
+    private interface ProjectFunction<T> {
+        T apply(MavenProject reactorProject) throws MavenReportException;
+    }
+
+    /**
+     * Apply a function to reactor projects, concurrently when more than one thread is configured.
+     *
+     * @param projects
+     * @param function
+     * @return the results, in the order of the projects
+     * @throws MavenReportException
+     */
+    private <T> List<T> forEachProject(List<MavenProject> projects, ProjectFunction<T> function)
+            throws MavenReportException {
+        List<T> results = new ArrayList<>(projects.size());
+
+        int threads = Math.min(dependencyGraphThreads, projects.size());
+        if (threads <= 1) {
+            for (MavenProject reactorProject : projects) {
+                results.add(function.apply(reactorProject));
             }
+            return results;
         }
 
-        return false;
+        ExecutorService executor = RepositoryUtils.newExecutor(threads);
+        try {
+            List<Future<T>> futures = new ArrayList<>(projects.size());
+            for (MavenProject reactorProject : projects) {
+                futures.add(executor.submit(() -> function.apply(reactorProject)));
+            }
+
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenReportException("Interrupted while building dependency trees", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MavenReportException) {
+                throw (MavenReportException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MavenReportException("Could not build dependency tree: " + cause.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
-     * Get root node of dependency tree for a given project
+     * Get the root node of the dependency tree of a given project in the {@link CompactDependencyGraph}, collected
+     * once per build session even if the report is executed for each module of the reactor. The collected tree is
+     * released as soon as it is added to the compact graph.
      *
-     * @param buildingRequest
-     * @return root node of dependency tree
+     * @param graphRegistry
+     * @param graph
+     * @param sessionRequest
+     * @param reactorProject
+     * @return id of the root node of dependency tree
      * @throws MavenReportException
      */
-    private DependencyNode getNode(ProjectBuildingRequest buildingRequest) throws MavenReportException {
+    private int getRoot(
+            DependencyGraphRegistry graphRegistry,
+            CompactDependencyGraph graph,
+            ProjectBuildingRequest sessionRequest,
+            MavenProject reactorProject)
+            throws MavenReportException {
+        int root = graph.getRoot(reactorProject);
+        if (root >= 0) {
+            return root;
+        }
+
+        root = graph.add(reactorProject, getTree(graphRegistry, sessionRequest, reactorProject));
+
+        graphRegistry.release(reactorProject, DependencyGraphRegistry.COLLECTED, GRAPH_FILTER);
+        return root;
+    }
+
+    /**
+     * Get the dependency tree of a given project, collected once per build session.
+     *
+     * @param graphRegistry
+     * @param sessionRequest
+     * @param reactorProject
+     * @return the root node of dependency tree
+     * @throws MavenReportException
+     */
+    private DependencyNode getTree(
+            DependencyGraphRegistry graphRegistry, ProjectBuildingRequest sessionRequest, MavenProject reactorProject)
+            throws MavenReportException {
+        ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest(sessionRequest);
+        buildingRequest.setProject(reactorProject);
+
         try {
-            return dependencyCollectorBuilder.collectDependencyGraph(buildingRequest, filter);
+            return graphRegistry.get(
+                    reactorProject,
+                    DependencyGraphRegistry.COLLECTED,
+                    GRAPH_FILTER,
+                    () -> dependencyCollectorBuilder.collectDependencyGraph(buildingRequest, filter));
         } catch (DependencyCollectorBuilderException e) {
             throw new MavenReportException("Could not build dependency tree: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Get all descendants nodes for a given dependency node.
+     * The report is an aggregator: invoked from the command line it is executed once, but as a site report it is
+     * executed for each module, the last one being the last project of the reactor.
      *
-     * @param node
-     * @return set of descendants artifacts.
-     */
-    private Set<Artifact> getAllDescendants(DependencyNode node) {
-        Set<Artifact> children = null;
-        if (node.getChildren() != null) {
-            children = new HashSet<>();
-            for (DependencyNode depNode : node.getChildren()) {
-                children.add(depNode.getArtifact());
-                Set<Artifact> subNodes = getAllDescendants(depNode);
-                if (subNodes != null) {
-                    children.addAll(subNodes);
-                }
-            }
+     * @return <code>true</code> if no other execution of this report will need the graphs of the reactor projects
+     */
+    private boolean isLastExecution() {
+        if (getMojoExecution() != null && getMojoExecution().getSource() == MojoExecution.Source.CLI) {
+            return true;
+        }
+        return reactorProjects.isEmpty() || reactorProjects.get(reactorProjects.size() - 1) == project;
+    }
+
+    private void releaseGraphs() {
+        DependencyGraphRegistry graphRegistry = getGraphRegistry();
+        for (MavenProject reactorProject : reactorProjects) {
+            graphRegistry.release(reactorProject, DependencyGraphRegistry.COLLECTED, GRAPH_FILTER);
+        }
+
+        if (getLog().isDebugEnabled()) {
+            getLog().debug(graphRegistry.getStatistics());
+            getLog().debug(getCompactGraph().getStatistics());
         }
-        return children;
+        CompactDependencyGraph.release(getSession().getRepositorySession());
+    }
+
+    private DependencyGraphRegistry getGraphRegistry() {
+        return DependencyGraphRegistry.of(getSession().getRepositorySession());
+    }
+
+    private CompactDependencyGraph getCompactGraph() {
+        return CompactDependencyGraph.of(getSession().getRepositorySession());
     }
 
     private int calculateConvergence(DependencyAnalyzeResult result) {
@@ -899,30 +1326,20 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         }
     }
 
-    /**
-     * Internal ReverseDependencyLink comparator
-     */
-    static class DependencyNodeComparator implements Comparator<DependencyNode> {
-        /**
-         * {@inheritDoc}
-         */
-        public int compare(DependencyNode p1, DependencyNode p2) {
-            return p1.getArtifact().getId().compareTo(p2.getArtifact().getId());
-        }
-    }
-
     /**
      * Internal object
      */
-    private class DependencyAnalyzeResult {
-        Map<String, List<ReverseDependencyLink>> all;
+    private static class DependencyAnalyzeResult {
+        int dependencyCount;
 
         List<ReverseDependencyLink> snapshots;
 
         Map<String, List<ReverseDependencyLink>> conflicting;
 
-        public void setAll(Map<String, List<ReverseDependencyLink>> all) {
-            this.all = all;
+        int artifactCount;
+
+        public void setDependencyCount(int dependencyCount) {
+            this.dependencyCount = dependencyCount;
         }
 
         public List<ReverseDependencyLink> getSnapshots() {
@@ -942,7 +1359,7 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         }
 
         public int getDependencyCount() {
-            return all.size();
+            return dependencyCount;
         }
 
         public int getSnapshotCount() {
@@ -953,14 +1370,282 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
             return this.conflicting.size();
         }
 
+        public void setArtifactCount(int artifactCount) {
+            this.artifactCount = artifactCount;
+        }
+
         public int getArtifactCount() {
-            int artifactCount = 0;
-            for (List<ReverseDependencyLink> depList : this.all.values()) {
-                Map<String, List<ReverseDependencyLink>> artifactMap = getSortedUniqueArtifactMap(depList);
-                artifactCount += artifactMap.size();
+            return artifactCount;
+        }
+    }
+
+    /**
+     * Internal single pass analysis of the dependency trees of the reactor projects. Each tree is traversed once to
+     * find both its conflicting versions and all its dependencies, which are indexed by the ids of their
+     * groupId:artifactId and version in a {@link CoordinateTable}.
+     */
+    private static class DependencyAnalyzer {
+        private final CoordinateTable coordinates = new CoordinateTable();
+
+        private final BitSet reactorIds = new BitSet();
+
+        private final Map<String, List<ReverseDependencyLink>> conflicting = new TreeMap<>();
+
+        /**
+         * The versions met in any tree, and the first link to each of them, by version id.
+         */
+        private final BitSet versionIds = new BitSet();
+
+        private ReverseDependencyLink[] firstLinks = new ReverseDependencyLink[64];
+
+        DependencyAnalyzer(List<MavenProject> reactorProjects) {
+            for (MavenProject reactorProject : reactorProjects) {
+                String groupId = reactorProject.getGroupId();
+                reactorIds.set(coordinates.groupArtifactId(groupId, reactorProject.getArtifactId()));
             }
+        }
 
-            return artifactCount;
+        /**
+         * Analyze the dependency tree of a reactor project. Like the conflict resolution, the versions of a dependency
+         * are tracked until they conflict: the children of its nodes are not tracked from then on, but they are still
+         * part of all the dependencies.
+         *
+         * @param fingerprint
+         * @param graph
+         * @param root the id of the root node of the tree in the graph
+         * @return the analysis of the module, to {@link #merge(MavenProject, ConvergenceRecord)}
+         */
+        ConvergenceRecord analyze(String fingerprint, CompactDependencyGraph graph, int root) {
+            TrackedVersions trackedVersions = new TrackedVersions();
+            List<Dependency> dependencies = new ArrayList<>();
+
+            visit(graph, root, trackedVersions, new BitSet(), dependencies, true, true);
+
+            List<List<Dependency>> conflicts = new ArrayList<>();
+            BitSet conflicted = trackedVersions.conflicted;
+            for (int ga = conflicted.nextSetBit(0); ga >= 0; ga = conflicted.nextSetBit(ga + 1)) {
+                List<Dependency> conflict = new ArrayList<>();
+                for (Artifact artifact : trackedVersions.artifacts.get(ga)) {
+                    conflict.add(toDependency(artifact));
+                }
+                conflicts.add(conflict);
+            }
+
+            return new ConvergenceRecord(fingerprint, dependencies, conflicts);
+        }
+
+        /**
+         * Add the analysis of a reactor project. The projects must be merged in reactor order.
+         *
+         * @param reactorProject
+         * @param record
+         */
+        void merge(MavenProject reactorProject, ConvergenceRecord record) {
+            for (Dependency dependency : record.getDependencies()) {
+                int gav = versionId(dependency);
+                if (!versionIds.get(gav)) {
+                    versionIds.set(gav);
+                    if (gav >= firstLinks.length) {
+                        firstLinks = Arrays.copyOf(firstLinks, Math.max(gav + 1, firstLinks.length * 2));
+                    }
+                    firstLinks[gav] = new ReverseDependencyLink(dependency, reactorProject);
+                }
+            }
+
+            for (List<Dependency> conflict : record.getConflicts()) {
+                String key = coordinates.getKey(coordinates.getGroupArtifact(versionId(conflict.get(0))));
+                List<ReverseDependencyLink> dependencyList = conflicting.computeIfAbsent(key, k -> new ArrayList<>());
+                for (Dependency dependency : conflict) {
+                    dependencyList.add(new ReverseDependencyLink(dependency, reactorProject));
+                }
+            }
+        }
+
+        /**
+         * A snapshot dependency outside of the reactor can change without any change of the module.
+         *
+         * @param record
+         * @return <code>true</code> if the record from a previous build can be used instead of collecting the tree
+         */
+        boolean isReusable(ConvergenceRecord record) {
+            return !hasExternalSnapshot(record);
+        }
+
+        /**
+         * @param record
+         * @return <code>true</code> if the module has conflicting or SNAPSHOT dependencies, whose details are rendered
+         * from its tree
+         */
+        boolean hasDetails(ConvergenceRecord record) {
+            return !record.getConflicts().isEmpty() || hasExternalSnapshot(record);
+        }
+
+        DependencyAnalyzeResult getResult() {
+            BitSet groupArtifactIds = new BitSet();
+            Map<String, Map<String, ReverseDependencyLink>> snapshotVersions = new TreeMap<>();
+
+            for (int gav = versionIds.nextSetBit(0); gav >= 0; gav = versionIds.nextSetBit(gav + 1)) {
+                int ga = coordinates.getGroupArtifact(gav);
+                groupArtifactIds.set(ga);
+
+                String version = coordinates.getVersion(gav);
+                if (version.endsWith("-SNAPSHOT") && !reactorIds.get(ga)) {
+                    snapshotVersions
+                            .computeIfAbsent(coordinates.getKey(ga), k -> new TreeMap<>())
+                            .put(version, firstLinks[gav]);
+                }
+            }
+
+            List<ReverseDependencyLink> snapshots = new ArrayList<>();
+            for (Map<String, ReverseDependencyLink> versions : snapshotVersions.values()) {
+                snapshots.addAll(versions.values());
+            }
+
+            DependencyAnalyzeResult dependencyResult = new DependencyAnalyzeResult();
+            dependencyResult.setDependencyCount(groupArtifactIds.cardinality());
+            dependencyResult.setConflicting(conflicting);
+            dependencyResult.setSnapshots(snapshots);
+            dependencyResult.setArtifactCount(versionIds.cardinality());
+            return dependencyResult;
+        }
+
+        private void visit(
+                CompactDependencyGraph graph,
+                int node,
+                TrackedVersions trackedVersions,
+                BitSet moduleVersionIds,
+                List<Dependency> dependencies,
+                boolean tracked,
+                boolean root) {
+            Artifact artifact = graph.getArtifact(node);
+            int ga = coordinates.groupArtifactId(artifact);
+            int gav = coordinates.versionId(ga, artifact.getVersion());
+
+            if (!root && !moduleVersionIds.get(gav)) {
+                moduleVersionIds.set(gav);
+                dependencies.add(toDependency(artifact));
+            }
+
+            if (tracked) {
+                tracked = !trackedVersions.add(ga, gav, artifact);
+            }
+
+            for (int i = 0; i < graph.getChildCount(node); i++) {
+                visit(graph, graph.getChild(node, i), trackedVersions, moduleVersionIds, dependencies, tracked, false);
+            }
+        }
+
+        private boolean hasExternalSnapshot(ConvergenceRecord record) {
+            for (Dependency dependency : record.getDependencies()) {
+                if (dependency.getVersion().endsWith("-SNAPSHOT")
+                        && !reactorIds.get(coordinates.getGroupArtifact(versionId(dependency)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int versionId(Dependency dependency) {
+            int ga = coordinates.groupArtifactId(dependency.getGroupId(), dependency.getArtifactId());
+            return coordinates.versionId(ga, dependency.getVersion());
+        }
+    }
+
+    /**
+     * Internal handler of the merged analysis of a {@link ConvergenceSpill}, building the same result as the
+     * {@link DependencyAnalyzer}.
+     */
+    private static class SpillMerger implements ConvergenceSpill.Handler {
+        private final List<MavenProject> reactorProjects;
+
+        private final Set<String> reactorKeys;
+
+        private final Map<String, List<ReverseDependencyLink>> conflicting = new TreeMap<>();
+
+        private final List<ReverseDependencyLink> snapshots = new ArrayList<>();
+
+        private String lastKey;
+
+        private int dependencyCount;
+
+        private int artifactCount;
+
+        SpillMerger(List<MavenProject> reactorProjects, Set<String> reactorKeys) {
+            this.reactorProjects = reactorProjects;
+            this.reactorKeys = reactorKeys;
+        }
+
+        @Override
+        public void conflict(String key, int module, Dependency dependency) {
+            conflicting
+                    .computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(new ReverseDependencyLink(dependency, reactorProjects.get(module)));
+        }
+
+        @Override
+        public void version(String key, int module, Dependency dependency) {
+            artifactCount++;
+            if (!key.equals(lastKey)) {
+                lastKey = key;
+                dependencyCount++;
+            }
+
+            if (dependency.getVersion().endsWith("-SNAPSHOT") && !reactorKeys.contains(key)) {
+                snapshots.add(new ReverseDependencyLink(dependency, reactorProjects.get(module)));
+            }
+        }
+
+        DependencyAnalyzeResult getResult() {
+            DependencyAnalyzeResult dependencyResult = new DependencyAnalyzeResult();
+            dependencyResult.setDependencyCount(dependencyCount);
+            dependencyResult.setConflicting(conflicting);
+            dependencyResult.setSnapshots(snapshots);
+            dependencyResult.setArtifactCount(artifactCount);
+            return dependencyResult;
+        }
+    }
+
+    /**
+     * Internal object: the nodes of each dependency met in one dependency tree until its versions conflict, by the id
+     * of its groupId:artifactId
+     */
+    private static class TrackedVersions {
+        private final List<List<Artifact>> artifacts = new ArrayList<>();
+
+        /**
+         * The id of the first version of each dependency, plus one, <code>0</code> if not tracked yet.
+         */
+        private int[] firstVersions = new int[64];
+
+        private final BitSet conflicted = new BitSet();
+
+        /**
+         * @param ga the id of the groupId:artifactId of the node
+         * @param gav the id of the version of the node
+         * @param artifact the artifact of the node
+         * @return <code>true</code> if the dependency has conflicting versions
+         */
+        boolean add(int ga, int gav, Artifact artifact) {
+            if (ga >= firstVersions.length) {
+                firstVersions = Arrays.copyOf(firstVersions, Math.max(ga + 1, firstVersions.length * 2));
+            }
+            while (artifacts.size() <= ga) {
+                artifacts.add(null);
+            }
+
+            List<Artifact> nodes = artifacts.get(ga);
+            if (nodes == null) {
+                nodes = new ArrayList<>();
+                artifacts.set(ga, nodes);
+            }
+            nodes.add(artifact);
+
+            if (firstVersions[ga] == 0) {
+                firstVersions[ga] = gav + 1;
+            } else if (firstVersions[ga] != gav + 1) {
+                conflicted.set(ga);
+            }
+            return conflicted.get(ga);
         }
     }
 }
@@ -28,6 +28,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
 import org.apache.maven.report.projectinfo.dependencies.ManagementDependencies;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependencyManagementRenderer;
@@ -42,7 +43,7 @@ import org.codehaus.plexus.i18n.I18N;
  * @since 2.1
  */
 @Mojo(name = "dependency-management", requiresDependencyResolution = ResolutionScope.TEST)
-public class DependencyManagementReport extends AbstractProjectInfoReport {
+public class DependencyManagementReport extends AbstractDependencyMetadataReport {
 
     // ----------------------------------------------------------------------
     // Mojo parameters
@@ -93,7 +94,9 @@ public class DependencyManagementReport extends AbstractProjectInfoReport {
     }
 
     @Override
-    public void executeReport(Locale locale) {
+    public void executeReport(Locale locale) throws MavenReportException {
+        DependenciesReportConfiguration config = createConfiguration(false);
+
         ProjectBuildingRequest buildingRequest =
                 new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
         buildingRequest.setLocalRepository(getSession().getLocalRepository());
@@ -111,8 +114,11 @@ public class DependencyManagementReport extends AbstractProjectInfoReport {
                 repositorySystem,
                 buildingRequest,
                 repoUtils,
+                config,
                 getLicenseMappings());
         r.render();
+
+        repoUtils.logProjectMetadataSummary(getLog());
     }
 
     /**
@@ -39,6 +39,8 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadata;
+import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.reporting.MavenReportException;
 import org.apache.maven.repository.RepositorySystem;
 import org.apache.maven.shared.artifact.filter.PatternExcludesArtifactFilter;
@@ -64,9 +66,13 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
     @Parameter
     private List<String> pluginManagementExcludes = null;
 
+    private final RepositoryUtils repoUtils;
+
     @Inject
-    public PluginManagementReport(RepositorySystem repositorySystem, I18N i18n, ProjectBuilder projectBuilder) {
+    public PluginManagementReport(
+            RepositorySystem repositorySystem, I18N i18n, ProjectBuilder projectBuilder, RepositoryUtils repoUtils) {
         super(repositorySystem, i18n, projectBuilder);
+        this.repoUtils = repoUtils;
     }
 
     // ----------------------------------------------------------------------
@@ -82,11 +88,13 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
                 getI18N(locale),
                 project.getPluginManagement().getPlugins(),
                 project,
-                projectBuilder,
+                repoUtils,
                 repositorySystem,
                 getSession().getProjectBuildingRequest(),
                 pluginManagementExcludes);
         r.render();
+
+        repoUtils.logProjectMetadataSummary(getLog());
     }
 
     /** {@inheritDoc} */
@@ -127,7 +135,7 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
 
         private final MavenProject project;
 
-        private final ProjectBuilder projectBuilder;
+        private final RepositoryUtils repoUtils;
 
         private final RepositorySystem repositorySystem;
 
@@ -142,7 +150,7 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
          * @param i18n {@link I18N}
          * @param plugins {@link Plugin}
          * @param project {@link MavenProject}
-         * @param projectBuilder {@link ProjectBuilder}
+         * @param repoUtils {@link RepositoryUtils}
          * @param repositorySystem {@link RepositorySystem}
          * @param buildingRequest {@link ProjectBuildingRequest}
          * @param excludes the list of plugins to be excluded from the report
@@ -154,7 +162,7 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
                 I18N i18n,
                 List<Plugin> plugins,
                 MavenProject project,
-                ProjectBuilder projectBuilder,
+                RepositoryUtils repoUtils,
                 RepositorySystem repositorySystem,
                 ProjectBuildingRequest buildingRequest,
                 List<String> excludes) {
@@ -166,7 +174,7 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
 
             this.project = project;
 
-            this.projectBuilder = projectBuilder;
+            this.repoUtils = repoUtils;
 
             this.repositorySystem = repositorySystem;
 
@@ -228,15 +236,14 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
 
                 if (patternExcludesArtifactFilter.include(pluginArtifact)) {
                     try {
-                        MavenProject pluginProject = projectBuilder
-                                .build(pluginArtifact, buildRequest)
-                                .getProject();
+                        ProjectMetadata pluginProject =
+                                repoUtils.getPluginProjectMetadata(pluginArtifact, buildRequest);
 
                         tableRow(getPluginRow(
                                 pluginProject.getGroupId(), pluginProject.getArtifactId(),
                                 pluginProject.getVersion(), pluginProject.getUrl()));
                     } catch (ProjectBuildingException e) {
-                        log.info("Could not build project for " + plugin.getArtifactId(), e);
+                        log.debug("Could not build project for " + plugin.getArtifactId(), e);
                         tableRow(getPluginRow(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null));
                     }
                 } else {
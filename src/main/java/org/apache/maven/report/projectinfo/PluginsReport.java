@@ -40,6 +40,8 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadata;
+import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.reporting.MavenReportException;
 import org.apache.maven.repository.RepositorySystem;
 import org.codehaus.plexus.i18n.I18N;
@@ -54,9 +56,13 @@ import org.codehaus.plexus.util.StringUtils;
 @Mojo(name = "plugins", requiresDependencyResolution = ResolutionScope.TEST)
 public class PluginsReport extends AbstractProjectInfoReport {
 
+    private final RepositoryUtils repoUtils;
+
     @Inject
-    public PluginsReport(RepositorySystem repositorySystem, I18N i18n, ProjectBuilder projectBuilder) {
+    public PluginsReport(
+            RepositorySystem repositorySystem, I18N i18n, ProjectBuilder projectBuilder, RepositoryUtils repoUtils) {
         super(repositorySystem, i18n, projectBuilder);
+        this.repoUtils = repoUtils;
     }
     // ----------------------------------------------------------------------
     // Public methods
@@ -83,10 +89,12 @@ public class PluginsReport extends AbstractProjectInfoReport {
                 project.getBuildPlugins(),
                 project.getReportPlugins(),
                 project,
-                projectBuilder,
+                repoUtils,
                 repositorySystem,
                 getSession().getProjectBuildingRequest());
         r.render();
+
+        repoUtils.logProjectMetadataSummary(getLog());
     }
 
     /** {@inheritDoc} */
@@ -115,7 +123,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
 
         private final MavenProject project;
 
-        private final ProjectBuilder projectBuilder;
+        private final RepositoryUtils repoUtils;
 
         private final RepositorySystem repositorySystem;
 
@@ -129,7 +137,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
          * @param plugins {@link Artifact}
          * @param reports {@link Artifact}
          * @param project {@link MavenProject}
-         * @param projectBuilder {@link ProjectBuilder}
+         * @param repoUtils {@link RepositoryUtils}
          * @param repositorySystem {@link RepositorySystem}
          * @param buildingRequest {@link ProjectBuildingRequest}
          *
@@ -142,7 +150,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
                 List<Plugin> plugins,
                 List<ReportPlugin> reports,
                 MavenProject project,
-                ProjectBuilder projectBuilder,
+                RepositoryUtils repoUtils,
                 RepositorySystem repositorySystem,
                 ProjectBuildingRequest buildingRequest) {
             super(sink, i18n, locale);
@@ -155,7 +163,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
 
             this.project = project;
 
-            this.projectBuilder = projectBuilder;
+            this.repoUtils = repoUtils;
 
             this.repositorySystem = repositorySystem;
 
@@ -209,8 +217,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
                 Artifact pluginArtifact = repositorySystem.createProjectArtifact(
                         plugin.getGroupId(), plugin.getArtifactId(), versionRange.toString());
                 try {
-                    MavenProject pluginProject =
-                            projectBuilder.build(pluginArtifact, buildRequest).getProject();
+                    ProjectMetadata pluginProject = repoUtils.getPluginProjectMetadata(pluginArtifact, buildRequest);
 
                     tableRow(getPluginRow(
                             pluginProject.getGroupId(),
@@ -218,7 +225,7 @@ public class PluginsReport extends AbstractProjectInfoReport {
                             pluginProject.getVersion(),
                             pluginProject.getUrl()));
                 } catch (ProjectBuildingException e) {
-                    log.info("Could not build project for " + plugin.getArtifactId(), e);
+                    log.debug("Could not build project for " + plugin.getArtifactId(), e);
                     tableRow(getPluginRow(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null));
                 }
             }
@@ -42,6 +42,7 @@ import java.util.Properties;
 import org.apache.commons.validator.routines.RegexValidator;
 import org.apache.commons.validator.routines.UrlValidator;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadata;
 import org.apache.maven.reporting.AbstractMavenReportRenderer;
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Server;
@@ -166,6 +167,20 @@ public class ProjectInfoReportUtils {
         return null;
     }
 
+    /**
+     * @param metadata the project metadata, could be null
+     * @return the project url if valid, <code>null</code> otherwise
+     * @since 3.9.1
+     */
+    public static String getProjectUrl(ProjectMetadata metadata) {
+
+        if (metadata != null && isArtifactUrlValid(metadata.getUrl())) {
+            return metadata.getUrl();
+        }
+
+        return null;
+    }
+
     /**
      * @param artifactId not null
      * @param link could be null
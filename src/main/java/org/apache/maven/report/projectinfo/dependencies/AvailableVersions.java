@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.metadata.ArtifactMetadataRetrievalException;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.aether.SessionData;
+
+/**
+ * The versions available in the repositories for each <code>groupId:artifactId</code>, as read from the
+ * <code>maven-metadata.xml</code> files. They are retrieved at most once per build session and set of repositories,
+ * and can be prefetched concurrently for all the artifacts of a report.
+ *
+ * @since 3.9.1
+ */
+public class AvailableVersions {
+    private static final String SESSION_KEY = AvailableVersions.class.getName();
+
+    private final ArtifactMetadataSource artifactMetadataSource;
+
+    private final ProjectBuildingRequest buildingRequest;
+
+    private final ConcurrentMap<String, FutureTask<List<ArtifactVersion>>> versions;
+
+    private final String repositories;
+
+    /**
+     * @param artifactMetadataSource the metadata source used to retrieve the versions.
+     * @param buildingRequest the request with the repository session and the repositories to use.
+     */
+    public AvailableVersions(ArtifactMetadataSource artifactMetadataSource, ProjectBuildingRequest buildingRequest) {
+        this.artifactMetadataSource = artifactMetadataSource;
+        this.buildingRequest = buildingRequest;
+        this.versions = getSessionVersions(buildingRequest);
+        this.repositories = RepositoryUtils.getRepositoriesKey(buildingRequest.getRemoteRepositories());
+    }
+
+    /**
+     * Retrieve concurrently the available versions of the given artifacts which have a version range, so later calls
+     * to {@link #get(Artifact)} only read completed results.
+     *
+     * @param artifacts the artifacts, with their version range as version.
+     * @param threads the number of threads to use, 1 to not prefetch.
+     */
+    public void prefetch(Collection<Artifact> artifacts, int threads) {
+        List<Artifact> ranged = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            if (isRange(artifact.getVersion())) {
+                ranged.add(artifact);
+            }
+        }
+
+        threads = Math.min(threads, ranged.size());
+        if (threads <= 1) {
+            return;
+        }
+
+        ExecutorService executor = RepositoryUtils.newExecutor(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(ranged.size());
+            for (Artifact artifact : ranged) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        get(artifact);
+                    } catch (ArtifactMetadataRetrievalException | RuntimeException e) {
+                        // kept, reported when rendered
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // kept, reported when rendered
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @return an unmodifiable list of the versions available for the artifact groupId and artifactId.
+     * @throws ArtifactMetadataRetrievalException if the versions cannot be retrieved.
+     */
+    public List<ArtifactVersion> get(Artifact artifact) throws ArtifactMetadataRetrievalException {
+        String key = artifact.getGroupId() + ':' + artifact.getArtifactId() + repositories;
+
+        FutureTask<List<ArtifactVersion>> task = versions.get(key);
+        if (task == null) {
+            FutureTask<List<ArtifactVersion>> newTask = new FutureTask<>(() -> Collections.unmodifiableList(
+                    new ArrayList<>(artifactMetadataSource.retrieveAvailableVersions(
+                            artifact, buildingRequest.getLocalRepository(), buildingRequest.getRemoteRepositories()))));
+            task = versions.putIfAbsent(key, newTask);
+            if (task == null) {
+                task = newTask;
+                task.run();
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtifactMetadataRetrievalException("Interrupted while retrieving versions", e, artifact);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ArtifactMetadataRetrievalException) {
+                throw (ArtifactMetadataRetrievalException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @param artifact the artifact, with its version range as version.
+     * @param range the version range.
+     * @return the latest available version in the range, or <code>null</code> if none.
+     * @throws ArtifactMetadataRetrievalException if the versions cannot be retrieved.
+     */
+    public ArtifactVersion getLatest(Artifact artifact, VersionRange range) throws ArtifactMetadataRetrievalException {
+        ArtifactVersion latest = null;
+        for (ArtifactVersion version : get(artifact)) {
+            if (range.containsVersion(version) && (latest == null || version.compareTo(latest) > 0)) {
+                latest = version;
+            }
+        }
+        return latest;
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static boolean isRange(String version) {
+        return version != null && (version.startsWith("[") || version.startsWith("("));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, FutureTask<List<ArtifactVersion>>> getSessionVersions(
+            ProjectBuildingRequest buildingRequest) {
+        if (buildingRequest.getRepositorySession() == null) {
+            return new ConcurrentHashMap<>();
+        }
+
+        SessionData data = buildingRequest.getRepositorySession().getData();
+        Object versions = data.get(SESSION_KEY);
+        while (versions == null) {
+            data.set(SESSION_KEY, null, new ConcurrentHashMap<String, FutureTask<List<ArtifactVersion>>>());
+            versions = data.get(SESSION_KEY);
+        }
+        return (ConcurrentMap<String, FutureTask<List<ArtifactVersion>>>) versions;
+    }
+}
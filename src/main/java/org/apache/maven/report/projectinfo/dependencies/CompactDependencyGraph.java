@@ -0,0 +1,620 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Compact representation of the dependency trees of the reactor projects, kept for the whole report instead of the
+ * trees. Identical subtrees, like the closure of a widely used library, are hash-consed into one shared node: each
+ * node is an int id with the id of its label, i.e. its artifact and the other fields of a
+ * {@link DependencyNode}, and the ids of its children. Expanding the node of a root gives back its tree.
+ * <p>
+ * The reverse edges, from each node to its parents, and the nodes of each <code>groupId:artifactId</code> and of each
+ * <code>groupId:artifactId:type:baseVersion</code> are indexed as the trees are added, so the shortest paths to a
+ * dependency are found from its nodes up to the root, without traversing the tree. In the same way, the nodes on the
+ * paths from the roots to an artifact are indexed the first time they are needed, and shared by the path trees of all
+ * the roots.
+ * <p>
+ * It is stored in the repository session data, so the different executions of a report share it. Trees are added
+ * under a lock; the nodes are read once the threads adding them are done.
+ *
+ * @since 3.9.1
+ */
+public class CompactDependencyGraph {
+    private static final String SESSION_KEY = CompactDependencyGraph.class.getName();
+
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final CoordinateTable coordinates = new CoordinateTable();
+
+    private final Map<Label, Integer> labelIds = new HashMap<>();
+
+    private final Map<Node, Integer> nodeIds = new HashMap<>();
+
+    private final Map<String, Integer> roots = new HashMap<>();
+
+    private final Map<String, BitSet> nodesByGroupArtifact = new HashMap<>();
+
+    private final Map<String, BitSet> nodesByKey = new HashMap<>();
+
+    private final Map<String, BitSet> pathNodesByKey = new HashMap<>();
+
+    private Label[] labels = new Label[64];
+
+    private int labelCount;
+
+    private Node[] nodes = new Node[64];
+
+    private int nodeCount;
+
+    private int[][] parents = new int[64][];
+
+    private int[] parentCounts = new int[64];
+
+    private long treeNodeCount;
+
+    /**
+     * @param repositorySession the repository session.
+     * @return the graph of the given session, created on first use.
+     */
+    public static CompactDependencyGraph of(RepositorySystemSession repositorySession) {
+        SessionData data = repositorySession.getData();
+        CompactDependencyGraph graph = (CompactDependencyGraph) data.get(SESSION_KEY);
+        while (graph == null) {
+            data.set(SESSION_KEY, null, new CompactDependencyGraph());
+            graph = (CompactDependencyGraph) data.get(SESSION_KEY);
+        }
+        return graph;
+    }
+
+    /**
+     * Forget the graph of a session once the reports are done with it, so it can be garbage collected.
+     *
+     * @param repositorySession the repository session.
+     */
+    public static void release(RepositorySystemSession repositorySession) {
+        repositorySession.getData().set(SESSION_KEY, null);
+    }
+
+    /**
+     * Add the dependency tree of a project. The tree is not referenced afterwards.
+     *
+     * @param project the project of the tree.
+     * @param rootNode the root node of the tree.
+     * @return the id of the root node in this graph.
+     */
+    public synchronized int add(MavenProject project, DependencyNode rootNode) {
+        Integer root = roots.get(project.getId());
+        if (root == null) {
+            root = intern(rootNode);
+            roots.put(project.getId(), root);
+            // the new nodes may be on the paths to an artifact
+            pathNodesByKey.clear();
+        }
+        return root;
+    }
+
+    /**
+     * @param project a project.
+     * @return the id of the root node of the tree of the project, or <code>-1</code> if it was not added.
+     */
+    public synchronized int getRoot(MavenProject project) {
+        Integer root = roots.get(project.getId());
+        return root != null ? root : -1;
+    }
+
+    /**
+     * @param node the id of a node.
+     * @return the artifact of the node.
+     */
+    public Artifact getArtifact(int node) {
+        return labels[nodes[node].label].artifact;
+    }
+
+    /**
+     * @param node the id of a node.
+     * @return the number of children of the node.
+     */
+    public int getChildCount(int node) {
+        return nodes[node].children.length;
+    }
+
+    /**
+     * @param node the id of a node.
+     * @param index the index of the child, from <code>0</code>.
+     * @return the id of the child.
+     */
+    public int getChild(int node, int index) {
+        return nodes[node].children[index];
+    }
+
+    /**
+     * Get the tree of a root restricted to the paths from the root to the nodes of an artifact, i.e. the nodes of the
+     * artifact and their ancestors, in the order of the tree, built in time proportional to its size. Its nodes are {@link DefaultDependencyNode}s which render
+     * like the nodes of the added tree, with the conflict resolution details of verbose trees.
+     *
+     * @param root the id of the root node.
+     * @param groupId the groupId.
+     * @param artifactId the artifactId.
+     * @param type the type.
+     * @param baseVersion the base version.
+     * @return the root of the restricted tree, or <code>null</code> if the tree has no node of the artifact.
+     */
+    public DependencyNode getPathTree(int root, String groupId, String artifactId, String type, String baseVersion) {
+        BitSet onPath = getPathNodes(getKey(groupId, artifactId, type, baseVersion));
+        if (onPath == null || !onPath.get(root)) {
+            return null;
+        }
+        return copy(root, null, onPath);
+    }
+
+    /**
+     * Get the shortest paths from a root to each version of a dependency. The paths are searched from the nodes of the
+     * dependency up through their parents, level by level, so only the ancestors of these nodes up to the depth of the
+     * path are visited.
+     *
+     * @param root the id of the root node.
+     * @param groupId the groupId of the dependency.
+     * @param artifactId the artifactId of the dependency.
+     * @return the shortest path to each version of the dependency in the tree of the root, the nearest first: its
+     * version is the one selected by nearest wins. Of paths of the same length, the first in the tree comes first.
+     */
+    public List<Inclusion> getInclusions(int root, String groupId, String artifactId) {
+        BitSet matching = nodesByGroupArtifact.get(groupId + ':' + artifactId);
+        if (matching == null) {
+            return Collections.emptyList();
+        }
+
+        Map<String, List<Integer>> nodesByVersion = new LinkedHashMap<>();
+        for (int node = matching.nextSetBit(0); node >= 0; node = matching.nextSetBit(node + 1)) {
+            if (node != root) {
+                nodesByVersion.computeIfAbsent(getArtifact(node).getVersion(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        List<Inclusion> inclusions = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : nodesByVersion.entrySet()) {
+            Inclusion inclusion = getInclusion(root, entry.getKey(), entry.getValue());
+            if (inclusion != null) {
+                inclusions.add(inclusion);
+            }
+        }
+        inclusions.sort(null);
+        return inclusions;
+    }
+
+    /**
+     * @return the size of the graph compared to the trees added, for debug output.
+     */
+    public synchronized String getStatistics() {
+        return "Compact dependency graph: " + roots.size() + " trees of " + treeNodeCount + " nodes stored as "
+                + nodeCount + " nodes with " + labelCount + " labels";
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private int intern(DependencyNode node) {
+        List<DependencyNode> children = node.getChildren();
+        int[] childIds = NO_CHILDREN;
+        if (children != null && !children.isEmpty()) {
+            childIds = new int[children.size()];
+            for (int i = 0; i < childIds.length; i++) {
+                childIds[i] = intern(children.get(i));
+            }
+        }
+        treeNodeCount++;
+
+        Node key = new Node(label(node), childIds);
+        Integer id = nodeIds.get(key);
+        if (id == null) {
+            id = nodeCount++;
+            if (id == nodes.length) {
+                nodes = Arrays.copyOf(nodes, id * 2);
+            }
+            nodes[id] = key;
+            nodeIds.put(key, id);
+            index(id, childIds);
+        }
+        return id;
+    }
+
+    private void index(int node, int[] childIds) {
+        if (node == parents.length) {
+            parents = Arrays.copyOf(parents, node * 2);
+            parentCounts = Arrays.copyOf(parentCounts, node * 2);
+        }
+
+        for (int i = 0; i < childIds.length; i++) {
+            int child = childIds[i];
+            if (indexOf(nodes[node].children, child) < i) {
+                // the same child twice
+                continue;
+            }
+
+            int[] childParents = parents[child];
+            if (childParents == null) {
+                childParents = new int[2];
+            } else if (parentCounts[child] == childParents.length) {
+                childParents = Arrays.copyOf(childParents, childParents.length * 2);
+            }
+            childParents[parentCounts[child]++] = node;
+            parents[child] = childParents;
+        }
+
+        Artifact artifact = getArtifact(node);
+        nodesByGroupArtifact
+                .computeIfAbsent(artifact.getGroupId() + ':' + artifact.getArtifactId(), k -> new BitSet())
+                .set(node);
+        nodesByKey.computeIfAbsent(getKey(artifact), k -> new BitSet()).set(node);
+    }
+
+    /**
+     * Get the nodes on the paths from the roots to the nodes of an artifact, i.e. these nodes and their ancestors,
+     * found through the reverse edges. A shared node is on a path in all its occurrences, or in none.
+     *
+     * @return the nodes, or <code>null</code> if the graph has no node of the artifact.
+     */
+    private synchronized BitSet getPathNodes(String key) {
+        BitSet onPath = pathNodesByKey.get(key);
+        if (onPath == null) {
+            BitSet matching = nodesByKey.get(key);
+            if (matching == null) {
+                return null;
+            }
+
+            onPath = new BitSet();
+            List<Integer> level = new ArrayList<>();
+            for (int node = matching.nextSetBit(0); node >= 0; node = matching.nextSetBit(node + 1)) {
+                onPath.set(node);
+                level.add(node);
+            }
+            while (!level.isEmpty()) {
+                List<Integer> nextLevel = new ArrayList<>();
+                for (int node : level) {
+                    for (int i = 0; i < parentCounts[node]; i++) {
+                        int parent = parents[node][i];
+                        if (!onPath.get(parent)) {
+                            onPath.set(parent);
+                            nextLevel.add(parent);
+                        }
+                    }
+                }
+                level = nextLevel;
+            }
+            pathNodesByKey.put(key, onPath);
+        }
+        return onPath;
+    }
+
+    /**
+     * Search the shortest path from a root to nodes of a version: the distance of the ancestors of the nodes is
+     * computed level by level until the root is met, then the path goes down from the root through the first child
+     * one level closer.
+     */
+    private Inclusion getInclusion(int root, String version, List<Integer> versionNodes) {
+        Map<Integer, Integer> distances = new HashMap<>();
+        List<Integer> level = new ArrayList<>();
+        for (int node : versionNodes) {
+            distances.put(node, 0);
+            level.add(node);
+        }
+
+        int distance = 0;
+        while (!distances.containsKey(root)) {
+            if (level.isEmpty()) {
+                // not in the tree of the root
+                return null;
+            }
+            distance++;
+
+            List<Integer> nextLevel = new ArrayList<>();
+            for (int node : level) {
+                for (int i = 0; i < parentCounts[node]; i++) {
+                    int parent = parents[node][i];
+                    if (!distances.containsKey(parent)) {
+                        distances.put(parent, distance);
+                        nextLevel.add(parent);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+
+        List<Artifact> path = new ArrayList<>(distance + 1);
+        int[] childIndexes = new int[distance];
+        int node = root;
+        path.add(getArtifact(node));
+        for (int depth = 0; depth < distance; depth++) {
+            int[] children = nodes[node].children;
+            int index = 0;
+            while (distances.getOrDefault(children[index], -1) != distance - depth - 1) {
+                index++;
+            }
+            childIndexes[depth] = index;
+            node = children[index];
+            path.add(getArtifact(node));
+        }
+
+        return new Inclusion(version, path, childIndexes);
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int label(DependencyNode node) {
+        Artifact artifact = node.getArtifact();
+        Label key = new Label(coordinates.versionId(artifact), node);
+        Integer id = labelIds.get(key);
+        if (id == null) {
+            id = labelCount++;
+            if (id == labels.length) {
+                labels = Arrays.copyOf(labels, id * 2);
+            }
+            labels[id] = key;
+            labelIds.put(key, id);
+        }
+        return id;
+    }
+
+    private DependencyNode copy(int node, DependencyNode parentCopy, BitSet onPath) {
+        Node n = nodes[node];
+        Label label = labels[n.label];
+        DefaultDependencyNode nodeCopy = new LabelDependencyNode(parentCopy, label);
+
+        List<DependencyNode> childrenCopies = new ArrayList<>();
+        for (int child : n.children) {
+            if (onPath.get(child)) {
+                childrenCopies.add(copy(child, nodeCopy, onPath));
+            }
+        }
+        nodeCopy.setChildren(childrenCopies);
+
+        return nodeCopy;
+    }
+
+    private static String getKey(Artifact artifact) {
+        return getKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getType(), artifact.getBaseVersion());
+    }
+
+    private static String getKey(String groupId, String artifactId, String type, String baseVersion) {
+        return groupId + ':' + artifactId + ':' + type + ':' + baseVersion;
+    }
+
+    /**
+     * The shortest path from a root to a version of a dependency.
+     */
+    public static final class Inclusion implements Comparable<Inclusion> {
+        private final String version;
+
+        private final List<Artifact> path;
+
+        private final int[] childIndexes;
+
+        Inclusion(String version, List<Artifact> path, int[] childIndexes) {
+            this.version = version;
+            this.path = Collections.unmodifiableList(path);
+            this.childIndexes = childIndexes;
+        }
+
+        /**
+         * @return the version of the dependency.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the artifacts of the path, from the root to the dependency.
+         */
+        public List<Artifact> getPath() {
+            return path;
+        }
+
+        /**
+         * @return the depth of the dependency, <code>1</code> for a direct dependency.
+         */
+        public int getDepth() {
+            return childIndexes.length;
+        }
+
+        /**
+         * Nearest first, then first in the tree.
+         */
+        @Override
+        public int compareTo(Inclusion other) {
+            int result = Integer.compare(getDepth(), other.getDepth());
+            for (int i = 0; result == 0 && i < childIndexes.length; i++) {
+                result = Integer.compare(childIndexes[i], other.childIndexes[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The fields of a dependency node, apart from its parent and children, with its rendered text, which includes the
+     * conflict resolution details of verbose nodes, like "omitted for conflict with". The artifact and the exclusions
+     * are the ones of the first node met; equal labels differ at most in fields that are not rendered.
+     */
+    private static final class Label {
+        private final int version;
+
+        private final Artifact artifact;
+
+        private final String premanagedVersion;
+
+        private final String premanagedScope;
+
+        private final String versionConstraint;
+
+        private final Boolean optional;
+
+        private final List<Exclusion> exclusions;
+
+        private final String exclusionKeys;
+
+        private final String nodeString;
+
+        private final int hash;
+
+        Label(int version, DependencyNode node) {
+            this.version = version;
+            this.artifact = node.getArtifact();
+            this.premanagedVersion = node.getPremanagedVersion();
+            this.premanagedScope = node.getPremanagedScope();
+            this.versionConstraint = node.getVersionConstraint();
+            this.optional = node.getOptional();
+            this.exclusions = node.getExclusions();
+            this.exclusionKeys = getExclusionKeys(exclusions);
+            this.nodeString = node.toNodeString();
+            this.hash = Objects.hash(
+                    version,
+                    artifact.getType(),
+                    artifact.getClassifier(),
+                    artifact.getBaseVersion(),
+                    artifact.getScope(),
+                    premanagedVersion,
+                    premanagedScope,
+                    versionConstraint,
+                    optional,
+                    exclusionKeys,
+                    nodeString);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Label)) {
+                return false;
+            }
+            Label other = (Label) obj;
+            return version == other.version
+                    && Objects.equals(artifact.getType(), other.artifact.getType())
+                    && Objects.equals(artifact.getClassifier(), other.artifact.getClassifier())
+                    && Objects.equals(artifact.getBaseVersion(), other.artifact.getBaseVersion())
+                    && Objects.equals(artifact.getScope(), other.artifact.getScope())
+                    && Objects.equals(premanagedVersion, other.premanagedVersion)
+                    && Objects.equals(premanagedScope, other.premanagedScope)
+                    && Objects.equals(versionConstraint, other.versionConstraint)
+                    && Objects.equals(optional, other.optional)
+                    && Objects.equals(exclusionKeys, other.exclusionKeys)
+                    && Objects.equals(nodeString, other.nodeString);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static String getExclusionKeys(List<Exclusion> exclusions) {
+            if (exclusions == null) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (Exclusion exclusion : exclusions) {
+                sb.append(exclusion.getGroupId()).append(':').append(exclusion.getArtifactId()).append(' ');
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * A node of an expanded tree, rendered with the text of its label.
+     */
+    private static final class LabelDependencyNode extends DefaultDependencyNode {
+        private final String nodeString;
+
+        LabelDependencyNode(DependencyNode parent, Label label) {
+            super(
+                    parent,
+                    label.artifact,
+                    label.premanagedVersion,
+                    label.premanagedScope,
+                    label.versionConstraint,
+                    label.optional,
+                    label.exclusions);
+            this.nodeString = label.nodeString;
+        }
+
+        @Override
+        public String toNodeString() {
+            return nodeString;
+        }
+    }
+
+    /**
+     * A node of the graph: the id of its label and the ids of its children.
+     */
+    private static final class Node {
+        private final int label;
+
+        private final int[] children;
+
+        private final int hash;
+
+        Node(int label, int[] children) {
+            this.label = label;
+            this.children = children;
+            this.hash = 31 * label + Arrays.hashCode(children);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) obj;
+            return label == other.label && Arrays.equals(children, other.children);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.model.Dependency;
+
+/**
+ * The dependency convergence analysis of one module: all the versions of its dependencies, and the versions met for
+ * each of its conflicting dependencies. It is stored in a properties file, along with a fingerprint of the inputs
+ * of the dependency tree of the module, so an unchanged module does not need its tree to be collected again.
+ * <p>
+ * Dependencies are written as <code>groupId:artifactId:version:classifier:scope</code>, separated by spaces.
+ *
+ * @since 3.9.1
+ */
+public class ConvergenceRecord {
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String DEPENDENCIES = "dependencies";
+
+    private static final String CONFLICT_COUNT = "conflicts";
+
+    private static final String CONFLICT_PREFIX = "conflict.";
+
+    private final String fingerprint;
+
+    private final List<Dependency> dependencies;
+
+    private final List<List<Dependency>> conflicts;
+
+    /**
+     * @param fingerprint the fingerprint of the inputs of the dependency tree, <code>null</code> if not reusable.
+     * @param dependencies each version of the dependencies, in the order of the tree.
+     * @param conflicts for each conflicting dependency, the versions of all its nodes in the order of the tree.
+     */
+    public ConvergenceRecord(String fingerprint, List<Dependency> dependencies, List<List<Dependency>> conflicts) {
+        this.fingerprint = fingerprint;
+        this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+        this.conflicts = Collections.unmodifiableList(new ArrayList<>(conflicts));
+    }
+
+    /**
+     * @return the fingerprint of the inputs of the dependency tree, <code>null</code> if not reusable.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return each version of the dependencies, in the order of the tree.
+     */
+    public List<Dependency> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return for each conflicting dependency, the versions of all its nodes in the order of the tree.
+     */
+    public List<List<Dependency>> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * @param file the record file.
+     * @return the record, or <code>null</code> if there is none or it cannot be read.
+     */
+    public static ConvergenceRecord read(File file) {
+        Properties properties = ProjectMetadataCache.load(file);
+        if (properties == null || properties.getProperty(FINGERPRINT) == null) {
+            return null;
+        }
+
+        try {
+            List<Dependency> dependencies = parse(properties.getProperty(DEPENDENCIES, ""));
+
+            int count = Integer.parseInt(properties.getProperty(CONFLICT_COUNT, "0"));
+            List<List<Dependency>> conflicts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                conflicts.add(parse(properties.getProperty(CONFLICT_PREFIX + i, "")));
+            }
+
+            return new ConvergenceRecord(properties.getProperty(FINGERPRINT), dependencies, conflicts);
+        } catch (IllegalArgumentException e) {
+            // corrupted record: collect the tree again
+            return null;
+        }
+    }
+
+    /**
+     * Store the record, if it has a fingerprint. This is best effort: an I/O problem only means the tree of the
+     * module will be collected again next time.
+     *
+     * @param file the record file.
+     */
+    public void write(File file) {
+        if (fingerprint == null) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(DEPENDENCIES, format(dependencies));
+        properties.setProperty(CONFLICT_COUNT, String.valueOf(conflicts.size()));
+        for (int i = 0; i < conflicts.size(); i++) {
+            properties.setProperty(CONFLICT_PREFIX + i, format(conflicts.get(i)));
+        }
+
+        ProjectMetadataCache.store(file, properties, "dependency convergence record");
+    }
+
+    /**
+     * @param inputs the inputs of a dependency tree, one per line.
+     * @return their SHA-1 fingerprint, as an hexadecimal string.
+     */
+    public static String fingerprint(List<String> inputs) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (String input : inputs) {
+            digest.update(String.valueOf(input).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        return ProjectMetadataCache.toHex(digest.digest());
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static String format(List<Dependency> dependencies) {
+        StringBuilder sb = new StringBuilder();
+        for (Dependency dependency : dependencies) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(dependency.getGroupId()).append(':');
+            sb.append(dependency.getArtifactId()).append(':');
+            sb.append(dependency.getVersion()).append(':');
+            sb.append(dependency.getClassifier() == null ? "" : dependency.getClassifier()).append(':');
+            sb.append(dependency.getScope() == null ? "" : dependency.getScope());
+        }
+        return sb.toString();
+    }
+
+    private static List<Dependency> parse(String value) {
+        List<Dependency> dependencies = new ArrayList<>();
+        for (String coordinates : value.split(" ")) {
+            if (coordinates.isEmpty()) {
+                continue;
+            }
+
+            String[] parts = coordinates.split(":", -1);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid dependency: " + coordinates);
+            }
+
+            Dependency dependency = new Dependency();
+            dependency.setGroupId(parts[0]);
+            dependency.setArtifactId(parts[1]);
+            dependency.setVersion(parts[2]);
+            dependency.setClassifier(parts[3].isEmpty() ? null : parts[3]);
+            dependency.setScope(parts[4].isEmpty() ? null : parts[4]);
+            dependencies.add(dependency);
+        }
+        return dependencies;
+    }
+}
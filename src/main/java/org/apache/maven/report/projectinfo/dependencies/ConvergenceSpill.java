@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.maven.model.Dependency;
+
+/**
+ * Out-of-core merge of the dependency convergence analysis of the modules of a reactor, for reactors too large to keep
+ * the analysis of all their modules in memory. The {@link ConvergenceRecord} of each module is added as soon as it is
+ * known, in any module order, as lines buffered and then written to sorted run files. The runs are merged in one
+ * streaming pass, in the order of the <code>groupId:artifactId</code> of the dependencies, so the memory used does
+ * not depend on the size of the reactor.
+ * <p>
+ * A line is either a node of a conflicting dependency,
+ * <code>groupId:artifactId TAB C TAB module TAB index TAB version TAB classifier TAB scope</code>, or a version of a
+ * dependency, <code>groupId:artifactId TAB V TAB version TAB module TAB classifier TAB scope</code>, with zero padded
+ * numbers: the natural order of the lines is the order of these fields.
+ *
+ * @since 3.9.1
+ */
+public class ConvergenceSpill implements Closeable {
+    private static final String CONFLICT = "C";
+
+    private static final String VERSION = "V";
+
+    private static final int MAX_FAN_IN = 64;
+
+    private final File directory;
+
+    private final int runSize;
+
+    private final List<String> buffer = new ArrayList<>();
+
+    private List<File> runs = new ArrayList<>();
+
+    private int runCount;
+
+    /**
+     * Receives the merged analysis.
+     */
+    public interface Handler {
+        /**
+         * A node of a conflicting dependency. The nodes come by <code>groupId:artifactId</code>, then in module
+         * order, then in the order of the tree of the module.
+         *
+         * @param key the <code>groupId:artifactId</code> of the dependency.
+         * @param module the index of the module.
+         * @param dependency the dependency of the node.
+         */
+        void conflict(String key, int module, Dependency dependency);
+
+        /**
+         * A version of a dependency, in the first module where it is found. The versions come by
+         * <code>groupId:artifactId</code>, then by version, in the natural order of strings.
+         *
+         * @param key the <code>groupId:artifactId</code> of the dependency.
+         * @param module the index of the first module with this version.
+         * @param dependency the dependency in this module.
+         */
+        void version(String key, int module, Dependency dependency);
+    }
+
+    /**
+     * @param parentDirectory the directory where the directory of the run files is created, <code>null</code> for the
+     * default temporary directory.
+     * @param runSize the number of lines kept in memory before a run file is written.
+     * @throws IOException if the directory of the run files cannot be created.
+     */
+    public ConvergenceSpill(File parentDirectory, int runSize) throws IOException {
+        if (parentDirectory != null) {
+            Files.createDirectories(parentDirectory.toPath());
+            this.directory = Files.createTempDirectory(parentDirectory.toPath(), "dependency-convergence").toFile();
+        } else {
+            this.directory = Files.createTempDirectory("dependency-convergence").toFile();
+        }
+        this.runSize = Math.max(1, runSize);
+    }
+
+    /**
+     * @param module the index of the module.
+     * @param record the analysis of the module.
+     * @throws IOException if a run file cannot be written.
+     */
+    public void add(int module, ConvergenceRecord record) throws IOException {
+        String paddedModule = pad(module);
+
+        for (List<Dependency> conflict : record.getConflicts()) {
+            for (int i = 0; i < conflict.size(); i++) {
+                Dependency dependency = conflict.get(i);
+                buffer.add(getKey(dependency) + '\t' + CONFLICT + '\t' + paddedModule + '\t' + pad(i) + '\t'
+                        + dependency.getVersion() + '\t' + toField(dependency.getClassifier()) + '\t'
+                        + toField(dependency.getScope()));
+            }
+        }
+
+        for (Dependency dependency : record.getDependencies()) {
+            buffer.add(getKey(dependency) + '\t' + VERSION + '\t' + dependency.getVersion() + '\t' + paddedModule + '\t'
+                    + toField(dependency.getClassifier()) + '\t' + toField(dependency.getScope()));
+        }
+
+        if (buffer.size() >= runSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Merge the runs, after all the modules are added.
+     *
+     * @param handler the handler of the merged analysis.
+     * @throws IOException if a run file cannot be read or written.
+     */
+    public void merge(Handler handler) throws IOException {
+        flush();
+
+        // merge the runs by groups until they can be merged at once
+        while (runs.size() > MAX_FAN_IN) {
+            List<File> merged = new ArrayList<>();
+            for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                List<File> group = runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size()));
+                File run = newRun();
+                try (BufferedWriter writer = Files.newBufferedWriter(run.toPath(), StandardCharsets.UTF_8)) {
+                    merge(group, line -> {
+                        writer.write(line);
+                        writer.newLine();
+                    });
+                }
+                for (File input : group) {
+                    Files.deleteIfExists(input.toPath());
+                }
+                merged.add(run);
+            }
+            runs = merged;
+        }
+
+        String[] lastVersion = new String[2];
+        merge(runs, line -> {
+            String[] fields = line.split("\t", -1);
+            if (CONFLICT.equals(fields[1])) {
+                Dependency dependency = toDependency(fields[0], fields[4], fields[5], fields[6]);
+                handler.conflict(fields[0], Integer.parseInt(fields[2]), dependency);
+            } else if (!fields[0].equals(lastVersion[0]) || !fields[2].equals(lastVersion[1])) {
+                // the first line of a version is the one of the first module
+                lastVersion[0] = fields[0];
+                lastVersion[1] = fields[2];
+                Dependency dependency = toDependency(fields[0], fields[2], fields[4], fields[5]);
+                handler.version(fields[0], Integer.parseInt(fields[3]), dependency);
+            }
+        });
+    }
+
+    /**
+     * Delete the run files and their directory.
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.clear();
+        for (File run : runs) {
+            Files.deleteIfExists(run.toPath());
+        }
+        runs.clear();
+        Files.deleteIfExists(directory.toPath());
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private interface LineConsumer {
+        void accept(String line) throws IOException;
+    }
+
+    /**
+     * Head of a run during a merge.
+     */
+    private static class Run implements Comparable<Run> {
+        private final BufferedReader reader;
+
+        private String line;
+
+        Run(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            this.line = reader.readLine();
+        }
+
+        boolean next() throws IOException {
+            line = reader.readLine();
+            return line != null;
+        }
+
+        @Override
+        public int compareTo(Run other) {
+            return line.compareTo(other.line);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        Collections.sort(buffer);
+
+        File run = newRun();
+        Files.write(run.toPath(), buffer, StandardCharsets.UTF_8);
+        runs.add(run);
+        buffer.clear();
+    }
+
+    private File newRun() {
+        return new File(directory, "run-" + runCount++ + ".txt");
+    }
+
+    private static void merge(List<File> inputs, LineConsumer consumer) throws IOException {
+        List<BufferedReader> readers = new ArrayList<>(inputs.size());
+        try {
+            PriorityQueue<Run> heads = new PriorityQueue<>(Math.max(1, inputs.size()));
+            for (File input : inputs) {
+                BufferedReader reader = Files.newBufferedReader(input.toPath(), StandardCharsets.UTF_8);
+                readers.add(reader);
+                Run run = new Run(reader);
+                if (run.line != null) {
+                    heads.add(run);
+                }
+            }
+
+            while (!heads.isEmpty()) {
+                Run run = heads.poll();
+                consumer.accept(run.line);
+                if (run.next()) {
+                    heads.add(run);
+                }
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static String getKey(Dependency dependency) {
+        return dependency.getGroupId() + ':' + dependency.getArtifactId();
+    }
+
+    private static String pad(int number) {
+        String digits = Integer.toString(number);
+        return "0000000000".substring(digits.length()) + digits;
+    }
+
+    private static String toField(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static Dependency toDependency(String key, String version, String classifier, String scope) {
+        int separator = key.indexOf(':');
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(key.substring(0, separator));
+        dependency.setArtifactId(key.substring(separator + 1));
+        dependency.setVersion(version);
+        dependency.setClassifier(classifier.isEmpty() ? null : classifier);
+        dependency.setScope(scope.isEmpty() ? null : scope);
+        return dependency;
+    }
+}
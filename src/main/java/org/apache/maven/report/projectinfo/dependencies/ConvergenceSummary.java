@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact machine readable result of the dependency convergence analysis of a reactor, written instead of the report
+ * when only the figures are needed, like in a CI gate: the statistics, the versions of each conflicting dependency
+ * with the modules using them, and the SNAPSHOT dependencies.
+ * <p>
+ * It is written either as JSON or as CSV with the columns <code>type,dependency,version,modules</code>, the first
+ * row being the convergence and the number of modules, and modules being separated by spaces.
+ *
+ * @since 3.9.1
+ */
+public class ConvergenceSummary {
+    /**
+     * JSON format.
+     */
+    public static final String JSON = "json";
+
+    /**
+     * CSV format.
+     */
+    public static final String CSV = "csv";
+
+    private final int moduleCount;
+
+    private final int dependencyCount;
+
+    private final int artifactCount;
+
+    private final int convergence;
+
+    private final Map<String, Map<String, List<String>>> conflicts = new LinkedHashMap<>();
+
+    private final List<String[]> snapshots = new ArrayList<>();
+
+    /**
+     * @param moduleCount the number of modules.
+     * @param dependencyCount the number of dependencies (NOD).
+     * @param artifactCount the number of unique artifacts (NOA).
+     * @param convergence the convergence, in percent.
+     */
+    public ConvergenceSummary(int moduleCount, int dependencyCount, int artifactCount, int convergence) {
+        this.moduleCount = moduleCount;
+        this.dependencyCount = dependencyCount;
+        this.artifactCount = artifactCount;
+        this.convergence = convergence;
+    }
+
+    /**
+     * @param dependency the <code>groupId:artifactId</code> of the conflicting dependency.
+     * @param version one of its versions.
+     * @param modules the ids of the modules using this version.
+     */
+    public void addConflict(String dependency, String version, List<String> modules) {
+        conflicts.computeIfAbsent(dependency, k -> new LinkedHashMap<>()).put(version, modules);
+    }
+
+    /**
+     * @param dependency the <code>groupId:artifactId</code> of the SNAPSHOT dependency.
+     * @param version its version.
+     * @param module the id of a module using it.
+     */
+    public void addSnapshot(String dependency, String version, String module) {
+        snapshots.add(new String[] {dependency, version, module});
+    }
+
+    /**
+     * @param format {@link #JSON} or {@link #CSV}.
+     * @return <code>true</code> if the format can be written.
+     */
+    public static boolean isSupportedFormat(String format) {
+        return JSON.equals(format) || CSV.equals(format);
+    }
+
+    /**
+     * @param file the file to write, its parent directories are created if needed.
+     * @param format {@link #JSON} or {@link #CSV}.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(File file, String format) throws IOException {
+        if (!isSupportedFormat(format)) {
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+
+        String content = JSON.equals(format) ? toJson() : toCsv();
+
+        File directory = file.getParentFile();
+        if (directory != null) {
+            Files.createDirectories(directory.toPath());
+        }
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the summary as JSON.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"modules\": ").append(moduleCount).append(",\n");
+        sb.append("  \"dependencies\": ").append(dependencyCount).append(",\n");
+        sb.append("  \"artifacts\": ").append(artifactCount).append(",\n");
+        sb.append("  \"convergence\": ").append(convergence).append(",\n");
+
+        sb.append("  \"conflicts\": [");
+        String separator = "\n";
+        for (Map.Entry<String, Map<String, List<String>>> conflict : conflicts.entrySet()) {
+            sb.append(separator).append("    {\"dependency\": ");
+            appendJson(sb, conflict.getKey());
+            sb.append(", \"versions\": [");
+            String versionSeparator = "";
+            for (Map.Entry<String, List<String>> version : conflict.getValue().entrySet()) {
+                sb.append(versionSeparator).append("{\"version\": ");
+                appendJson(sb, version.getKey());
+                sb.append(", \"modules\": [");
+                String moduleSeparator = "";
+                for (String module : version.getValue()) {
+                    sb.append(moduleSeparator);
+                    appendJson(sb, module);
+                    moduleSeparator = ", ";
+                }
+                sb.append("]}");
+                versionSeparator = ", ";
+            }
+            sb.append("]}");
+            separator = ",\n";
+        }
+        sb.append(conflicts.isEmpty() ? "],\n" : "\n  ],\n");
+
+        sb.append("  \"snapshots\": [");
+        separator = "\n";
+        for (String[] snapshot : snapshots) {
+            sb.append(separator).append("    {\"dependency\": ");
+            appendJson(sb, snapshot[0]);
+            sb.append(", \"version\": ");
+            appendJson(sb, snapshot[1]);
+            sb.append(", \"module\": ");
+            appendJson(sb, snapshot[2]);
+            sb.append('}');
+            separator = ",\n";
+        }
+        sb.append(snapshots.isEmpty() ? "]\n" : "\n  ]\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * @return the summary as CSV.
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("type,dependency,version,modules\n");
+        appendCsv(sb, "convergence", "", String.valueOf(convergence), String.valueOf(moduleCount));
+        for (Map.Entry<String, Map<String, List<String>>> conflict : conflicts.entrySet()) {
+            for (Map.Entry<String, List<String>> version : conflict.getValue().entrySet()) {
+                appendCsv(sb, "conflict", conflict.getKey(), version.getKey(), String.join(" ", version.getValue()));
+            }
+        }
+        for (String[] snapshot : snapshots) {
+            appendCsv(sb, "snapshot", snapshot[0], snapshot[1], snapshot[2]);
+        }
+        return sb.toString();
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static void appendJson(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void appendCsv(StringBuilder sb, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String value = values[i] == null ? "" : values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+                sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                sb.append(value);
+            }
+        }
+        sb.append('\n');
+    }
+}
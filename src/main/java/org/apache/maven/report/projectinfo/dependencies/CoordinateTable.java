@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Symbol table of dependency coordinates: each <code>groupId:artifactId</code> and each version of it is given a
+ * dense int id the first time it is met, so the analysis of large dependency graphs can use arrays and
+ * {@link java.util.BitSet}s indexed by id instead of maps keyed by concatenated strings.
+ * <p>
+ * Ids start at <code>0</code> and are never reused. This class is not thread-safe.
+ *
+ * @since 3.9.1
+ */
+public class CoordinateTable {
+    private final Map<String, Map<String, Integer>> groupArtifactIds = new HashMap<>();
+
+    private String[] groupIds = new String[64];
+
+    private String[] artifactIds = new String[64];
+
+    private String[] keys = new String[64];
+
+    private Map<String, Integer>[] versionIds = newVersionIds(64);
+
+    private int groupArtifactCount;
+
+    private int[] versionGroupArtifacts = new int[64];
+
+    private String[] versions = new String[64];
+
+    private int versionCount;
+
+    /**
+     * @param groupId the groupId.
+     * @param artifactId the artifactId.
+     * @return the id of the <code>groupId:artifactId</code>, allocated if it is new.
+     */
+    public int groupArtifactId(String groupId, String artifactId) {
+        Map<String, Integer> artifacts = groupArtifactIds.computeIfAbsent(groupId, k -> new HashMap<>());
+        Integer id = artifacts.get(artifactId);
+        if (id != null) {
+            return id;
+        }
+
+        int ga = groupArtifactCount++;
+        if (ga == groupIds.length) {
+            int length = ga * 2;
+            groupIds = Arrays.copyOf(groupIds, length);
+            artifactIds = Arrays.copyOf(artifactIds, length);
+            keys = Arrays.copyOf(keys, length);
+            versionIds = Arrays.copyOf(versionIds, length);
+        }
+        groupIds[ga] = groupId;
+        artifactIds[ga] = artifactId;
+        artifacts.put(artifactId, ga);
+        return ga;
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @return the id of the artifact <code>groupId:artifactId</code>, allocated if it is new.
+     */
+    public int groupArtifactId(Artifact artifact) {
+        return groupArtifactId(artifact.getGroupId(), artifact.getArtifactId());
+    }
+
+    /**
+     * @param groupArtifact the id of the <code>groupId:artifactId</code>.
+     * @param version the version.
+     * @return the id of the version of the <code>groupId:artifactId</code>, allocated if it is new.
+     */
+    public int versionId(int groupArtifact, String version) {
+        Map<String, Integer> ids = versionIds[groupArtifact];
+        if (ids == null) {
+            ids = new HashMap<>();
+            versionIds[groupArtifact] = ids;
+        }
+        Integer id = ids.get(version);
+        if (id != null) {
+            return id;
+        }
+
+        int gav = versionCount++;
+        if (gav == versions.length) {
+            versionGroupArtifacts = Arrays.copyOf(versionGroupArtifacts, gav * 2);
+            versions = Arrays.copyOf(versions, gav * 2);
+        }
+        versionGroupArtifacts[gav] = groupArtifact;
+        versions[gav] = version;
+        ids.put(version, gav);
+        return gav;
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @return the id of the artifact <code>groupId:artifactId:version</code>, allocated if it is new.
+     */
+    public int versionId(Artifact artifact) {
+        return versionId(groupArtifactId(artifact), artifact.getVersion());
+    }
+
+    /**
+     * @return the number of <code>groupId:artifactId</code> ids allocated, the upper bound of the ids.
+     */
+    public int getGroupArtifactCount() {
+        return groupArtifactCount;
+    }
+
+    /**
+     * @return the number of version ids allocated, the upper bound of the ids.
+     */
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    /**
+     * @param groupArtifact the id of a <code>groupId:artifactId</code>.
+     * @return its groupId.
+     */
+    public String getGroupId(int groupArtifact) {
+        return groupIds[groupArtifact];
+    }
+
+    /**
+     * @param groupArtifact the id of a <code>groupId:artifactId</code>.
+     * @return its artifactId.
+     */
+    public String getArtifactId(int groupArtifact) {
+        return artifactIds[groupArtifact];
+    }
+
+    /**
+     * @param groupArtifact the id of a <code>groupId:artifactId</code>.
+     * @return the <code>groupId:artifactId</code> string, built once.
+     */
+    public String getKey(int groupArtifact) {
+        String key = keys[groupArtifact];
+        if (key == null) {
+            key = groupIds[groupArtifact] + ':' + artifactIds[groupArtifact];
+            keys[groupArtifact] = key;
+        }
+        return key;
+    }
+
+    /**
+     * @param version the id of a version.
+     * @return the id of the <code>groupId:artifactId</code> of the version.
+     */
+    public int getGroupArtifact(int version) {
+        return versionGroupArtifacts[version];
+    }
+
+    /**
+     * @param version the id of a version.
+     * @return the version string.
+     */
+    public String getVersion(int version) {
+        return versions[version];
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer>[] newVersionIds(int length) {
+        return new Map[length];
+    }
+}
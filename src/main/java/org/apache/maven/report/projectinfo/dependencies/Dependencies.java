@@ -20,10 +20,22 @@ package org.apache.maven.report.projectinfo.dependencies;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.channels.ClosedByInterruptException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 
 import org.apache.maven.artifact.Artifact;
@@ -36,6 +48,10 @@ import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
 import org.codehaus.plexus.util.StringUtils;
 
 /**
+ * The dependencies of a project, indexed in one traversal of its dependency tree on first use: all the dependencies
+ * in an insertion-ordered set, partitioned into direct and transitive ones, grouped by scope, and the nearest node of
+ * each of them, whose parents tell how it is introduced.
+ *
  * @since 2.1
  */
 public class Dependencies {
@@ -45,6 +61,10 @@ public class Dependencies {
 
     private final JarClassesAnalysis classesAnalyzer;
 
+    private final JarSummaryCache jarSummaryCache;
+
+    private final boolean lightweightJarAnalysis;
+
     /**
      * @since 2.1
      */
@@ -60,6 +80,11 @@ public class Dependencies {
      */
     private List<Artifact> allDependencies;
 
+    /**
+     * @since 3.9.1
+     */
+    private Set<Artifact> allDependencySet;
+
     /**
      * @since 2.1
      */
@@ -71,9 +96,33 @@ public class Dependencies {
     private Map<String, List<Artifact>> transitiveDependenciesByScope;
 
     /**
-     * @since 2.1
+     * The summaries of the dependency files, kept in place of their full analysis which retains every entry, class
+     * and package name.
+     *
+     * @since 3.9.1
+     */
+    private final Map<String, JarSummary> jarSummaries = new ConcurrentHashMap<>();
+
+    /**
+     * The failures of {@link #prefetchJarSummaries(Collection, int)}, thrown by {@link #getJarSummary(Artifact)}.
+     *
+     * @since 3.9.1
+     */
+    private final Map<String, IOException> jarSummaryFailures = new ConcurrentHashMap<>();
+
+    /**
+     * The full analyses returned by {@link #getJarDependencyDetails(Artifact)}, softly referenced so that the memory
+     * they retain can be reclaimed.
+     */
+    private final Map<String, SoftReference<JarData>> dependencyDetails = new ConcurrentHashMap<>();
+
+    /**
+     * The node nearest to the project of each dependency, by <code>groupId:artifactId:version</code>: the first one met
+     * at the lowest depth of the tree.
+     *
+     * @since 3.9.1
      */
-    private Map<String, JarData> dependencyDetails;
+    private Map<String, DependencyNode> nearestNodes;
 
     /**
      * Default constructor
@@ -83,9 +132,29 @@ public class Dependencies {
      * @param classesAnalyzer the JarClassesAnalysis.
      */
     public Dependencies(MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer) {
+        this(project, dependencyTreeNode, classesAnalyzer, null, false);
+    }
+
+    /**
+     * @param project the MavenProject.
+     * @param dependencyTreeNode the DependencyNode.
+     * @param classesAnalyzer the JarClassesAnalysis.
+     * @param jarSummaryCache the persistent cache of the dependency file summaries, <code>null</code> for none.
+     * @param lightweightJarAnalysis whether jar files are summarized by {@link JarSummaryScanner} rather than by the
+     * full analysis.
+     * @since 3.9.1
+     */
+    public Dependencies(
+            MavenProject project,
+            DependencyNode dependencyTreeNode,
+            JarClassesAnalysis classesAnalyzer,
+            JarSummaryCache jarSummaryCache,
+            boolean lightweightJarAnalysis) {
         this.project = project;
         this.dependencyNode = dependencyTreeNode;
         this.classesAnalyzer = classesAnalyzer;
+        this.jarSummaryCache = jarSummaryCache;
+        this.lightweightJarAnalysis = lightweightJarAnalysis;
     }
 
     /**
@@ -108,15 +177,7 @@ public class Dependencies {
      * @return a list of <code>Artifact</code> from the project.
      */
     public List<Artifact> getProjectDependencies() {
-        if (projectDependencies != null) {
-            return projectDependencies;
-        }
-
-        projectDependencies = new ArrayList<>();
-        for (DependencyNode dep : dependencyNode.getChildren()) {
-            projectDependencies.add(dep.getArtifact());
-        }
-
+        index();
         return projectDependencies;
     }
 
@@ -124,13 +185,7 @@ public class Dependencies {
      * @return a list of transitive <code>Artifact</code> from the project.
      */
     public List<Artifact> getTransitiveDependencies() {
-        if (projectTransitiveDependencies != null) {
-            return projectTransitiveDependencies;
-        }
-
-        projectTransitiveDependencies = new ArrayList<>(getAllDependencies());
-        projectTransitiveDependencies.removeAll(getProjectDependencies());
-
+        index();
         return projectTransitiveDependencies;
     }
 
@@ -138,17 +193,20 @@ public class Dependencies {
      * @return a list of included <code>Artifact</code> returned by the dependency tree.
      */
     public List<Artifact> getAllDependencies() {
-        if (allDependencies != null) {
-            return allDependencies;
-        }
-
-        allDependencies = new ArrayList<>();
-
-        addAllChildrenDependencies(dependencyNode);
-
+        index();
         return allDependencies;
     }
 
+    /**
+     * @param artifact an artifact.
+     * @return <code>true</code> if the artifact is one of {@link #getAllDependencies()}.
+     * @since 3.9.1
+     */
+    public boolean containsDependency(Artifact artifact) {
+        index();
+        return allDependencySet.contains(artifact);
+    }
+
     /**
      * @param isTransitively <code>true</code> to return transitive dependencies, <code>false</code> otherwise.
      * @return a map with supported scopes as key and a list of <code>Artifact</code> as values.
@@ -159,95 +217,236 @@ public class Dependencies {
      * @see Artifact#SCOPE_TEST
      */
     public Map<String, List<Artifact>> getDependenciesByScope(boolean isTransitively) {
-        if (isTransitively) {
-            if (transitiveDependenciesByScope != null) {
-                return transitiveDependenciesByScope;
-            }
+        index();
+        return isTransitively ? transitiveDependenciesByScope : dependenciesByScope;
+    }
 
-            transitiveDependenciesByScope = new HashMap<>();
-            for (Artifact artifact : getTransitiveDependencies()) {
-                List<Artifact> multiValue = transitiveDependenciesByScope.get(artifact.getScope());
-                if (multiValue == null) {
-                    multiValue = new ArrayList<>();
-                }
-
-                if (!multiValue.contains(artifact)) {
-                    multiValue.add(artifact);
-                }
-                transitiveDependenciesByScope.put(artifact.getScope(), multiValue);
-            }
+    /**
+     * @param artifact a dependency of the project.
+     * @return the artifacts through which the dependency is introduced, on the shortest path from the project, the
+     * direct dependency first. Empty for a direct dependency, or for an artifact which is not in the tree.
+     * @since 3.9.1
+     */
+    public List<Artifact> getIntroducedVia(Artifact artifact) {
+        index();
 
-            return transitiveDependenciesByScope;
+        DependencyNode node = nearestNodes.get(getKey(artifact));
+        if (node == null) {
+            return Collections.emptyList();
         }
 
-        if (dependenciesByScope != null) {
-            return dependenciesByScope;
+        List<Artifact> path = new ArrayList<>();
+        for (DependencyNode parent = node.getParent();
+                parent != null && parent != dependencyNode;
+                parent = parent.getParent()) {
+            path.add(parent.getArtifact());
         }
+        Collections.reverse(path);
+        return path;
+    }
 
-        dependenciesByScope = new HashMap<>();
-        for (Artifact artifact : getProjectDependencies()) {
-            List<Artifact> multiValue = dependenciesByScope.get(artifact.getScope());
-            if (multiValue == null) {
-                multiValue = new ArrayList<>();
-            }
-
-            if (!multiValue.contains(artifact)) {
-                multiValue.add(artifact);
-            }
-            dependenciesByScope.put(artifact.getScope(), multiValue);
+    /**
+     * The full analysis of the file of the artifact is memoized, but only softly referenced: it holds all the entries
+     * and class names of the jar, and is analyzed again once reclaimed.
+     *
+     * @param artifact the artifact.
+     * @return the jardata object from the artifact
+     * @throws IOException if any
+     * @deprecated since 3.9.1, use {@link #getJarSummary(Artifact)} which only holds what the report displays.
+     */
+    @Deprecated
+    public JarData getJarDependencyDetails(Artifact artifact) throws IOException {
+        SoftReference<JarData> reference = dependencyDetails.get(artifact.getId());
+        JarData jarData = reference != null ? reference.get() : null;
+        if (jarData != null) {
+            return jarData;
         }
 
-        return dependenciesByScope;
+        jarData = getJarData(artifact, getFile(artifact));
+
+        dependencyDetails.put(artifact.getId(), new SoftReference<>(jarData));
+
+        return jarData;
     }
 
     /**
      * @param artifact the artifact.
-     * @return the jardata object from the artifact
+     * @return the summary of the file of the artifact, from the persistent cache when its file did not change, or
+     * from {@link JarSummaryScanner} or from the full analysis of the file otherwise.
      * @throws IOException if any
+     * @since 3.9.1
      */
-    public JarData getJarDependencyDetails(Artifact artifact) throws IOException {
-        if (dependencyDetails == null) {
-            dependencyDetails = new HashMap<>();
+    public JarSummary getJarSummary(Artifact artifact) throws IOException {
+        JarSummary summary = jarSummaries.get(artifact.getId());
+        if (summary != null) {
+            return summary;
         }
 
-        JarData jarData = dependencyDetails.get(artifact.getId());
-        if (jarData != null) {
-            return jarData;
+        IOException failure = jarSummaryFailures.get(artifact.getId());
+        if (failure != null) {
+            throw failure;
         }
 
         File file = getFile(artifact);
+        boolean cacheable = jarSummaryCache != null && file.isFile();
+        if (cacheable) {
+            summary = jarSummaryCache.get(file, lightweightJarAnalysis);
+        }
 
-        if (file.isDirectory()) {
-            jarData = new JarData(artifact.getFile(), null, new ArrayList<JarEntry>());
+        if (summary == null) {
+            summary = analyze(artifact, file);
+            if (cacheable) {
+                jarSummaryCache.put(file, lightweightJarAnalysis, summary);
+            }
+        }
 
-            jarData.setJarClasses(new JarClasses());
-        } else {
-            JarAnalyzer jarAnalyzer = new JarAnalyzer(file);
+        jarSummaries.put(artifact.getId(), summary);
 
-            try {
-                classesAnalyzer.analyze(jarAnalyzer);
-            } finally {
-                jarAnalyzer.closeQuietly();
-            }
+        return summary;
+    }
 
-            jarData = jarAnalyzer.getJarData();
+    /**
+     * Analyze concurrently the files of all the given artifacts on a work-stealing pool, so later calls to
+     * {@link #getJarSummary(Artifact)} only read completed results. The failures to read a file are kept too and thrown
+     * by these later calls.
+     *
+     * @param artifacts the artifacts to analyze, with a resolved jar file.
+     * @param threads the number of threads to use, <code>0</code> for the number of available processors.
+     * @since 3.9.1
+     */
+    public void prefetchJarSummaries(Collection<Artifact> artifacts, int threads) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        threads = Math.min(threads, artifacts.size());
+        if (threads <= 1) {
+            return;
         }
 
-        dependencyDetails.put(artifact.getId(), jarData);
-
-        return jarData;
+        ExecutorService executor = Executors.newWorkStealingPool(threads);
+        for (Artifact artifact : artifacts) {
+            executor.execute(() -> prefetchJarSummary(artifact));
+        }
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // the remaining files are analyzed when rendered
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
 
     // ----------------------------------------------------------------------
     // Private methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Analyze the file of an artifact on a thread of {@link #prefetchJarSummaries(Collection, int)}. Only the
+     * failures to read the file are kept: an interrupted or unexpected failure leaves the artifact to be analyzed
+     * again, and reported, when rendered.
+     *
+     * @param artifact the artifact.
+     */
+    private void prefetchJarSummary(Artifact artifact) {
+        try {
+            getJarSummary(artifact);
+        } catch (Exception e) {
+            if (e instanceof ClosedByInterruptException
+                    || e instanceof InterruptedIOException
+                    || Thread.currentThread().isInterrupted()) {
+                Thread.currentThread().interrupt();
+            } else if (e instanceof IOException) {
+                jarSummaryFailures.put(artifact.getId(), (IOException) e);
+            }
+        }
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @param file the file of the artifact.
+     * @return the summary of the file, by the lightweight scanner when enabled and able to read the file.
+     */
+    private JarSummary analyze(Artifact artifact, File file) throws IOException {
+        if (lightweightJarAnalysis && file.isFile()) {
+            try {
+                return JarSummaryScanner.scan(file);
+            } catch (IOException e) {
+                // ZIP64 or malformed, the full analysis reads it or reports the failure
+            }
+        }
+        return JarSummary.of(getJarData(artifact, file));
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @param file the file of the artifact.
+     * @return the full analysis of the file.
+     */
+    private JarData getJarData(Artifact artifact, File file) throws IOException {
+        if (file.isDirectory()) {
+            JarData jarData = new JarData(artifact.getFile(), null, new ArrayList<JarEntry>());
+
+            jarData.setJarClasses(new JarClasses());
+
+            return jarData;
+        }
+
+        JarAnalyzer jarAnalyzer = new JarAnalyzer(file);
+
+        try {
+            classesAnalyzer.analyze(jarAnalyzer);
+        } finally {
+            jarAnalyzer.closeQuietly();
+        }
+
+        return jarAnalyzer.getJarData();
+    }
+
+    /**
+     * Index the dependencies in one traversal of the tree, the first time they are needed.
+     */
+    private void index() {
+        if (allDependencies != null) {
+            return;
+        }
+
+        projectDependencies = new ArrayList<>();
+        for (DependencyNode dep : dependencyNode.getChildren()) {
+            projectDependencies.add(dep.getArtifact());
+        }
+
+        Set<Artifact> all = new LinkedHashSet<>();
+        Map<String, Integer> depths = new HashMap<>();
+        nearestNodes = new HashMap<>();
+        addAllChildrenDependencies(dependencyNode, 1, all, depths);
+
+        Set<Artifact> direct = new HashSet<>(projectDependencies);
+        projectTransitiveDependencies = new ArrayList<>();
+        for (Artifact artifact : all) {
+            if (!direct.contains(artifact)) {
+                projectTransitiveDependencies.add(artifact);
+            }
+        }
+
+        dependenciesByScope = groupByScope(projectDependencies);
+        transitiveDependenciesByScope = groupByScope(projectTransitiveDependencies);
+
+        allDependencySet = all;
+        allDependencies = new ArrayList<>(all);
+    }
+
     /**
      * Recursive method to get all dependencies from a given <code>dependencyNode</code>
      *
      * @param dependencyNode not null
+     * @param depth the depth of the children of the node
+     * @param all the dependencies met so far, in the order of the tree
+     * @param depths the depth of the nearest node of each dependency met so far
      */
-    private void addAllChildrenDependencies(DependencyNode dependencyNode) {
+    private void addAllChildrenDependencies(
+            DependencyNode dependencyNode, int depth, Set<Artifact> all, Map<String, Integer> depths) {
         for (DependencyNode subdependencyNode : dependencyNode.getChildren()) {
             Artifact artifact = subdependencyNode.getArtifact();
 
@@ -257,12 +456,38 @@ public class Dependencies {
                 continue;
             }
 
-            if (!allDependencies.contains(artifact)) {
-                allDependencies.add(artifact);
+            all.add(artifact);
+
+            String key = getKey(artifact);
+            Integer nearestDepth = depths.get(key);
+            if (nearestDepth == null || depth < nearestDepth) {
+                depths.put(key, depth);
+                nearestNodes.put(key, subdependencyNode);
             }
 
-            addAllChildrenDependencies(subdependencyNode);
+            addAllChildrenDependencies(subdependencyNode, depth + 1, all, depths);
+        }
+    }
+
+    private static String getKey(Artifact artifact) {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
+    }
+
+    /**
+     * @param artifacts
+     * @return the artifacts by scope, each once, in their order
+     */
+    private static Map<String, List<Artifact>> groupByScope(List<Artifact> artifacts) {
+        Map<String, Set<Artifact>> buckets = new HashMap<>();
+        for (Artifact artifact : artifacts) {
+            buckets.computeIfAbsent(artifact.getScope(), k -> new LinkedHashSet<>()).add(artifact);
+        }
+
+        Map<String, List<Artifact>> byScope = new HashMap<>();
+        for (Map.Entry<String, Set<Artifact>> bucket : buckets.entrySet()) {
+            byScope.put(bucket.getKey(), new ArrayList<>(bucket.getValue()));
         }
+        return byScope;
     }
 
     /**
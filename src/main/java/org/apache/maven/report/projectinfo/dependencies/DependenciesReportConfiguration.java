@@ -18,6 +18,8 @@
  */
 package org.apache.maven.report.projectinfo.dependencies;
 
+import java.io.File;
+
 /**
  * Wrap DependenciesReport Mojo parameters.
  *
@@ -26,6 +28,20 @@ package org.apache.maven.report.projectinfo.dependencies;
 public class DependenciesReportConfiguration {
     private boolean dependencyDetailsEnabled;
 
+    private boolean metadataCacheEnabled;
+
+    private File metadataCacheDirectory;
+
+    private int metadataThreads = 1;
+
+    private boolean lightweightMetadataReader;
+
+    private int metadataCacheFailureTtl;
+
+    private int jarAnalysisThreads = 1;
+
+    private boolean introducedViaEnabled;
+
     /**
      * @param detailsEnabled whether details is enabled.
      */
@@ -39,4 +55,119 @@ public class DependenciesReportConfiguration {
     public boolean getDependencyDetailsEnabled() {
         return dependencyDetailsEnabled;
     }
+
+    /**
+     * @return value of Mojo metadataCacheEnabled parameter.
+     * @since 3.9.1
+     */
+    public boolean isMetadataCacheEnabled() {
+        return metadataCacheEnabled;
+    }
+
+    /**
+     * @param metadataCacheEnabled whether the persistent metadata cache is enabled.
+     * @since 3.9.1
+     */
+    public void setMetadataCacheEnabled(boolean metadataCacheEnabled) {
+        this.metadataCacheEnabled = metadataCacheEnabled;
+    }
+
+    /**
+     * @return value of Mojo metadataCacheDirectory parameter.
+     * @since 3.9.1
+     */
+    public File getMetadataCacheDirectory() {
+        return metadataCacheDirectory;
+    }
+
+    /**
+     * @param metadataCacheDirectory the persistent metadata cache directory, <code>null</code> for the default one.
+     * @since 3.9.1
+     */
+    public void setMetadataCacheDirectory(File metadataCacheDirectory) {
+        this.metadataCacheDirectory = metadataCacheDirectory;
+    }
+
+    /**
+     * @return value of Mojo metadataThreads parameter.
+     * @since 3.9.1
+     */
+    public int getMetadataThreads() {
+        return metadataThreads;
+    }
+
+    /**
+     * @param metadataThreads the number of threads used to prefetch the dependency metadata, 1 to disable it.
+     * @since 3.9.1
+     */
+    public void setMetadataThreads(int metadataThreads) {
+        this.metadataThreads = metadataThreads;
+    }
+
+    /**
+     * @return <code>true</code> if the Mojo metadataReader parameter is <code>lightweight</code>.
+     * @since 3.9.1
+     */
+    public boolean isLightweightMetadataReader() {
+        return lightweightMetadataReader;
+    }
+
+    /**
+     * @param lightweightMetadataReader <code>true</code> to only parse the POMs of the dependencies,
+     * <code>false</code> to build their Maven project.
+     * @since 3.9.1
+     */
+    public void setLightweightMetadataReader(boolean lightweightMetadataReader) {
+        this.lightweightMetadataReader = lightweightMetadataReader;
+    }
+
+    /**
+     * @return value of Mojo metadataCacheFailureTtl parameter, in minutes.
+     * @since 3.9.1
+     */
+    public int getMetadataCacheFailureTtl() {
+        return metadataCacheFailureTtl;
+    }
+
+    /**
+     * @param metadataCacheFailureTtl how many minutes the persistent cache keeps failures, 0 to not keep them.
+     * @since 3.9.1
+     */
+    public void setMetadataCacheFailureTtl(int metadataCacheFailureTtl) {
+        this.metadataCacheFailureTtl = metadataCacheFailureTtl;
+    }
+
+    /**
+     * @return value of Mojo jarAnalysisThreads parameter.
+     * @since 3.9.1
+     */
+    public int getJarAnalysisThreads() {
+        return jarAnalysisThreads;
+    }
+
+    /**
+     * @param jarAnalysisThreads the number of threads used to analyze the dependency files, 0 for the number of
+     * available processors, 1 to analyze them one at a time.
+     * @since 3.9.1
+     */
+    public void setJarAnalysisThreads(int jarAnalysisThreads) {
+        this.jarAnalysisThreads = jarAnalysisThreads;
+    }
+
+    /**
+     * @return value of Mojo introducedViaEnabled parameter.
+     * @since 3.9.1
+     */
+    public boolean isIntroducedViaEnabled() {
+        return introducedViaEnabled;
+    }
+
+    /**
+     * @param introducedViaEnabled <code>true</code> to add the introduced via column to the transitive dependency
+     * tables.
+     * @since 3.9.1
+     */
+    public void setIntroducedViaEnabled(boolean introducedViaEnabled) {
+        this.introducedViaEnabled = introducedViaEnabled;
+    }
 }
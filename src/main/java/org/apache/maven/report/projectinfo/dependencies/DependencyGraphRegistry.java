@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Registry of the dependency graphs built during one build session, so that the executions of a report, and the
+ * different phases of one execution, share the graph of a project instead of building it again. It is stored in the
+ * repository session data.
+ * <p>
+ * A graph is identified by its project, its kind, like resolved or only collected, and its filter. The dependencies
+ * report registers resolved graphs and the dependency convergence report collected ones, which keep the losing
+ * versions of conflicts: neither kind can stand for the other, so these two reports do not share their graphs. Each
+ * graph is built at most once until it is released, even when requested concurrently; a failure is kept as well.
+ *
+ * @since 3.9.1
+ */
+public class DependencyGraphRegistry {
+    /**
+     * Kind of graph built by a <code>DependencyGraphBuilder</code>, with the resolved dependencies only.
+     */
+    public static final String RESOLVED = "resolved";
+
+    /**
+     * Kind of graph built by a <code>DependencyCollectorBuilder</code>, with the conflicting dependencies too.
+     */
+    public static final String COLLECTED = "collected";
+
+    private static final String SESSION_KEY = DependencyGraphRegistry.class.getName();
+
+    private final ConcurrentMap<String, FutureTask<DependencyNode>> graphs = new ConcurrentHashMap<>();
+
+    private final AtomicLong built = new AtomicLong();
+
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Builds a dependency graph.
+     *
+     * @param <E> the exception thrown when the graph cannot be built.
+     */
+    public interface GraphBuilder<E extends Exception> {
+        /**
+         * @return the root node of the graph.
+         * @throws E if the graph cannot be built.
+         */
+        DependencyNode build() throws E;
+    }
+
+    /**
+     * @param repositorySession the repository session.
+     * @return the registry of the given session, created on first use.
+     */
+    public static DependencyGraphRegistry of(RepositorySystemSession repositorySession) {
+        SessionData data = repositorySession.getData();
+        DependencyGraphRegistry registry = (DependencyGraphRegistry) data.get(SESSION_KEY);
+        while (registry == null) {
+            data.set(SESSION_KEY, null, new DependencyGraphRegistry());
+            registry = (DependencyGraphRegistry) data.get(SESSION_KEY);
+        }
+        return registry;
+    }
+
+    /**
+     * @param project the project of the graph.
+     * @param kind the kind of graph, {@link #RESOLVED} or {@link #COLLECTED}.
+     * @param filter a description of the filter applied to the graph, like <code>scope:test</code>.
+     * @param builder the builder called if the graph is not registered yet.
+     * @param <E> the exception thrown when the graph cannot be built.
+     * @return the root node of the graph.
+     * @throws E if the graph cannot be built.
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Exception> DependencyNode get(
+            MavenProject project, String kind, String filter, GraphBuilder<E> builder) throws E {
+        String key = getKey(project, kind, filter);
+
+        FutureTask<DependencyNode> task = graphs.get(key);
+        if (task == null) {
+            FutureTask<DependencyNode> newTask = new FutureTask<>(builder::build);
+            task = graphs.putIfAbsent(key, newTask);
+            if (task == null) {
+                task = newTask;
+                built.incrementAndGet();
+                task.run();
+            } else {
+                reused.incrementAndGet();
+            }
+        } else {
+            reused.incrementAndGet();
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the dependency graph of " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * Forget a graph once its consumers are done with it, so it can be garbage collected.
+     *
+     * @param project the project of the graph.
+     * @param kind the kind of graph.
+     * @param filter the description of the filter applied to the graph.
+     */
+    public void release(MavenProject project, String kind, String filter) {
+        graphs.remove(getKey(project, kind, filter));
+    }
+
+    /**
+     * @return the number of graphs built, including the failed ones.
+     */
+    public long getBuiltCount() {
+        return built.get();
+    }
+
+    /**
+     * @return the number of requests answered with a graph already built or being built.
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+
+    /**
+     * @return the number of graphs built and reused, for debug output.
+     */
+    public String getStatistics() {
+        return "Dependency graph registry: " + built.get() + " built, " + reused.get() + " reused";
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static String getKey(MavenProject project, String kind, String filter) {
+        return project.getId() + '|' + kind + '|' + filter;
+    }
+}
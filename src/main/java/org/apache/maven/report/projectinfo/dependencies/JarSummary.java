@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.shared.jar.JarData;
+import org.apache.maven.shared.jar.classes.JarClasses;
+import org.apache.maven.shared.jar.classes.JarVersionedRuntime;
+
+/**
+ * The few facts of a dependency file which are displayed in the dependency file details: entry, class and package
+ * counts, JDK revision, debug information, sealed and multi-release flags, and the same counts for each versioned
+ * runtime of a multi-release jar.
+ * <p>
+ * It is kept for every dependency in place of the full analysis, so it only holds primitive values, shared JDK
+ * revision strings and an array of versioned runtimes, empty and shared for most jars.
+ *
+ * @since 3.9.1
+ */
+public class JarSummary {
+    private static final VersionedRuntime[] NO_VERSIONED_RUNTIMES = new VersionedRuntime[0];
+
+    private final int numEntries;
+
+    private final int numRootEntries;
+
+    private final int numClasses;
+
+    private final int numPackages;
+
+    private final String jdkRevision;
+
+    private final boolean debugPresent;
+
+    private final boolean aSealed;
+
+    private final boolean multiRelease;
+
+    private final VersionedRuntime[] versionedRuntimes;
+
+    /**
+     * The counts of one versioned runtime of a multi-release jar.
+     */
+    public static class VersionedRuntime {
+        private final int version;
+
+        private final int numEntries;
+
+        private final int numClasses;
+
+        private final int numPackages;
+
+        private final String jdkRevision;
+
+        private final boolean debugPresent;
+
+        /**
+         * @param version the Java version of the runtime.
+         * @param numEntries the number of entries of the runtime.
+         * @param numClasses the number of classes of the runtime.
+         * @param numPackages the number of packages of the runtime.
+         * @param jdkRevision the JDK revision of the classes of the runtime, could be <code>null</code>.
+         * @param debugPresent whether the classes of the runtime have debug information.
+         */
+        public VersionedRuntime(
+                int version,
+                int numEntries,
+                int numClasses,
+                int numPackages,
+                String jdkRevision,
+                boolean debugPresent) {
+            this.version = version;
+            this.numEntries = numEntries;
+            this.numClasses = numClasses;
+            this.numPackages = numPackages;
+            this.jdkRevision = intern(jdkRevision);
+            this.debugPresent = debugPresent;
+        }
+
+        /**
+         * @return the Java version of the runtime.
+         */
+        public int getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the number of entries of the runtime.
+         */
+        public int getNumEntries() {
+            return numEntries;
+        }
+
+        /**
+         * @return the number of classes of the runtime.
+         */
+        public int getNumClasses() {
+            return numClasses;
+        }
+
+        /**
+         * @return the number of packages of the runtime.
+         */
+        public int getNumPackages() {
+            return numPackages;
+        }
+
+        /**
+         * @return the JDK revision of the classes of the runtime, could be <code>null</code>.
+         */
+        public String getJdkRevision() {
+            return jdkRevision;
+        }
+
+        /**
+         * @return whether the classes of the runtime have debug information.
+         */
+        public boolean isDebugPresent() {
+            return debugPresent;
+        }
+    }
+
+    /**
+     * @param numEntries the number of entries.
+     * @param numRootEntries the number of entries outside of the versioned runtimes.
+     * @param numClasses the number of classes outside of the versioned runtimes.
+     * @param numPackages the number of packages outside of the versioned runtimes.
+     * @param jdkRevision the JDK revision of the classes, could be <code>null</code>.
+     * @param debugPresent whether the classes have debug information.
+     * @param aSealed whether the jar is sealed.
+     * @param multiRelease whether the jar is a multi-release jar.
+     * @param versionedRuntimes the versioned runtimes of a multi-release jar, in version order, could be
+     * <code>null</code>.
+     */
+    public JarSummary(
+            int numEntries,
+            int numRootEntries,
+            int numClasses,
+            int numPackages,
+            String jdkRevision,
+            boolean debugPresent,
+            boolean aSealed,
+            boolean multiRelease,
+            List<VersionedRuntime> versionedRuntimes) {
+        this.numEntries = numEntries;
+        this.numRootEntries = numRootEntries;
+        this.numClasses = numClasses;
+        this.numPackages = numPackages;
+        this.jdkRevision = intern(jdkRevision);
+        this.debugPresent = debugPresent;
+        this.aSealed = aSealed;
+        this.multiRelease = multiRelease;
+        this.versionedRuntimes = versionedRuntimes == null || versionedRuntimes.isEmpty()
+                ? NO_VERSIONED_RUNTIMES
+                : versionedRuntimes.toArray(new VersionedRuntime[0]);
+    }
+
+    /**
+     * @param jarData the full analysis of a dependency file.
+     * @return the summary of the given analysis.
+     */
+    public static JarSummary of(JarData jarData) {
+        List<VersionedRuntime> versionedRuntimes = new ArrayList<>();
+        if (jarData.isMultiRelease() && jarData.getVersionedRuntimes() != null) {
+            for (Map.Entry<Integer, JarVersionedRuntime> entry :
+                    jarData.getVersionedRuntimes().getVersionedRuntimeMap().entrySet()) {
+                JarVersionedRuntime runtime = entry.getValue();
+                JarClasses classes = runtime.getJarClasses();
+                versionedRuntimes.add(new VersionedRuntime(
+                        entry.getKey(),
+                        runtime.getNumEntries(),
+                        classes.getClassNames().size(),
+                        classes.getPackages().size(),
+                        classes.getJdkRevision(),
+                        classes.isDebugPresent()));
+            }
+        }
+
+        return new JarSummary(
+                jarData.getNumEntries(),
+                jarData.getRootEntries() != null ? jarData.getNumRootEntries() : jarData.getNumEntries(),
+                jarData.getNumClasses(),
+                jarData.getNumPackages(),
+                jarData.getJdkRevision(),
+                jarData.isDebugPresent(),
+                jarData.isSealed(),
+                jarData.isMultiRelease(),
+                versionedRuntimes);
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int getNumEntries() {
+        return numEntries;
+    }
+
+    /**
+     * @return the number of entries outside of the versioned runtimes.
+     */
+    public int getNumRootEntries() {
+        return numRootEntries;
+    }
+
+    /**
+     * @return the number of classes outside of the versioned runtimes.
+     */
+    public int getNumClasses() {
+        return numClasses;
+    }
+
+    /**
+     * @return the number of packages outside of the versioned runtimes.
+     */
+    public int getNumPackages() {
+        return numPackages;
+    }
+
+    /**
+     * @return the JDK revision of the classes, could be <code>null</code>.
+     */
+    public String getJdkRevision() {
+        return jdkRevision;
+    }
+
+    /**
+     * @return whether the classes have debug information.
+     */
+    public boolean isDebugPresent() {
+        return debugPresent;
+    }
+
+    /**
+     * @return whether the jar is sealed.
+     */
+    public boolean isSealed() {
+        return aSealed;
+    }
+
+    /**
+     * @return whether the jar is a multi-release jar.
+     */
+    public boolean isMultiRelease() {
+        return multiRelease;
+    }
+
+    /**
+     * @return the versioned runtimes of a multi-release jar, in version order, never <code>null</code>.
+     */
+    public List<VersionedRuntime> getVersionedRuntimes() {
+        return Collections.unmodifiableList(Arrays.asList(versionedRuntimes));
+    }
+
+    /**
+     * @param jdkRevision a JDK revision, could be <code>null</code>.
+     * @return the shared instance of the JDK revision, one of a few values read again for every jar.
+     */
+    private static String intern(String jdkRevision) {
+        return jdkRevision != null ? jdkRevision.intern() : null;
+    }
+}
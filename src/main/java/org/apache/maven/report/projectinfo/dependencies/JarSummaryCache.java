@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * A persistent cache of {@link JarSummary}, stored as one properties file per dependency file path. Each entry
+ * records the size and the last modification time of the file it was computed from, and optionally its checksum, and
+ * is only used as long as the file still has the same ones. It records the analysis which computed it too, full or
+ * lightweight, and is only used by the same analysis, as both do not always give the same summary.
+ * <p>
+ * The cache is best effort: any I/O problem is reported as a cache miss.
+ *
+ * @since 3.9.1
+ */
+public class JarSummaryCache {
+    private static final String PATH = "path";
+
+    private static final String SIZE = "size";
+
+    private static final String LAST_MODIFIED = "lastModified";
+
+    private static final String CHECKSUM = "checksum";
+
+    private static final String ANALYSIS = "analysis";
+
+    private static final String ENTRIES = "entries";
+
+    private static final String ROOT_ENTRIES = "rootEntries";
+
+    private static final String CLASSES = "classes";
+
+    private static final String PACKAGES = "packages";
+
+    private static final String JDK_REVISION = "jdkRevision";
+
+    private static final String DEBUG = "debug";
+
+    private static final String SEALED = "sealed";
+
+    private static final String MULTI_RELEASE = "multiRelease";
+
+    private static final String RUNTIME_COUNT = "runtimes";
+
+    private static final String RUNTIME_PREFIX = "runtime.";
+
+    private final File directory;
+
+    private final boolean checksum;
+
+    /**
+     * @param directory the cache root directory, created when the first entry is stored.
+     * @param checksum whether the checksum of a file is verified too, and not only its size and modification time.
+     */
+    public JarSummaryCache(File directory, boolean checksum) {
+        this.directory = directory;
+        this.checksum = checksum;
+    }
+
+    /**
+     * @return the cache root directory.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param file the dependency file.
+     * @param lightweight whether the summary is wanted from {@link JarSummaryScanner} rather than from the full
+     * analysis.
+     * @return the cached summary, or <code>null</code> if not cached, cached for another content of the file or cached
+     * by the other analysis.
+     */
+    public JarSummary get(File file, boolean lightweight) {
+        Properties properties = ProjectMetadataCache.load(getFile(file));
+        if (properties == null
+                || !file.getAbsolutePath().equals(properties.getProperty(PATH))
+                || !getAnalysis(lightweight).equals(properties.getProperty(ANALYSIS))) {
+            return null;
+        }
+
+        try {
+            if (Long.parseLong(properties.getProperty(SIZE)) != file.length()
+                    || Long.parseLong(properties.getProperty(LAST_MODIFIED)) != file.lastModified()) {
+                return null;
+            }
+            if (checksum && !ProjectMetadataCache.checksum(file).equals(properties.getProperty(CHECKSUM))) {
+                return null;
+            }
+
+            int runtimeCount = Integer.parseInt(properties.getProperty(RUNTIME_COUNT, "0"));
+            List<JarSummary.VersionedRuntime> runtimes = new ArrayList<>(runtimeCount);
+            for (int i = 0; i < runtimeCount; i++) {
+                String prefix = RUNTIME_PREFIX + i + '.';
+                runtimes.add(new JarSummary.VersionedRuntime(
+                        getInt(properties, prefix + "version"),
+                        getInt(properties, prefix + ENTRIES),
+                        getInt(properties, prefix + CLASSES),
+                        getInt(properties, prefix + PACKAGES),
+                        properties.getProperty(prefix + JDK_REVISION),
+                        Boolean.parseBoolean(properties.getProperty(prefix + DEBUG))));
+            }
+
+            return new JarSummary(
+                    getInt(properties, ENTRIES),
+                    getInt(properties, ROOT_ENTRIES),
+                    getInt(properties, CLASSES),
+                    getInt(properties, PACKAGES),
+                    properties.getProperty(JDK_REVISION),
+                    Boolean.parseBoolean(properties.getProperty(DEBUG)),
+                    Boolean.parseBoolean(properties.getProperty(SEALED)),
+                    Boolean.parseBoolean(properties.getProperty(MULTI_RELEASE)),
+                    runtimes);
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param file the dependency file the summary was computed from.
+     * @param lightweight whether the summary was computed by {@link JarSummaryScanner} rather than by the full
+     * analysis.
+     * @param summary the summary to store.
+     */
+    public void put(File file, boolean lightweight, JarSummary summary) {
+        Properties properties = new Properties();
+        properties.setProperty(PATH, file.getAbsolutePath());
+        properties.setProperty(ANALYSIS, getAnalysis(lightweight));
+        properties.setProperty(SIZE, String.valueOf(file.length()));
+        properties.setProperty(LAST_MODIFIED, String.valueOf(file.lastModified()));
+        if (checksum) {
+            try {
+                properties.setProperty(CHECKSUM, ProjectMetadataCache.checksum(file));
+            } catch (IOException e) {
+                return;
+            }
+        }
+
+        properties.setProperty(ENTRIES, String.valueOf(summary.getNumEntries()));
+        properties.setProperty(ROOT_ENTRIES, String.valueOf(summary.getNumRootEntries()));
+        properties.setProperty(CLASSES, String.valueOf(summary.getNumClasses()));
+        properties.setProperty(PACKAGES, String.valueOf(summary.getNumPackages()));
+        setProperty(properties, JDK_REVISION, summary.getJdkRevision());
+        properties.setProperty(DEBUG, String.valueOf(summary.isDebugPresent()));
+        properties.setProperty(SEALED, String.valueOf(summary.isSealed()));
+        properties.setProperty(MULTI_RELEASE, String.valueOf(summary.isMultiRelease()));
+
+        List<JarSummary.VersionedRuntime> runtimes = summary.getVersionedRuntimes();
+        properties.setProperty(RUNTIME_COUNT, String.valueOf(runtimes.size()));
+        for (int i = 0; i < runtimes.size(); i++) {
+            JarSummary.VersionedRuntime runtime = runtimes.get(i);
+            String prefix = RUNTIME_PREFIX + i + '.';
+            properties.setProperty(prefix + "version", String.valueOf(runtime.getVersion()));
+            properties.setProperty(prefix + ENTRIES, String.valueOf(runtime.getNumEntries()));
+            properties.setProperty(prefix + CLASSES, String.valueOf(runtime.getNumClasses()));
+            properties.setProperty(prefix + PACKAGES, String.valueOf(runtime.getNumPackages()));
+            setProperty(properties, prefix + JDK_REVISION, runtime.getJdkRevision());
+            properties.setProperty(prefix + DEBUG, String.valueOf(runtime.isDebugPresent()));
+        }
+
+        ProjectMetadataCache.store(getFile(file), properties, file.getName());
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @param file the dependency file.
+     * @return the cache file of the given dependency file, named after the checksum of its absolute path.
+     */
+    private File getFile(File file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        String hash = ProjectMetadataCache.toHex(
+                digest.digest(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8)));
+        return new File(directory, hash.substring(0, 2) + '/' + hash.substring(2) + ".properties");
+    }
+
+    private static String getAnalysis(boolean lightweight) {
+        return lightweight ? "lightweight" : "full";
+    }
+
+    private static int getInt(Properties properties, String key) {
+        return Integer.parseInt(properties.getProperty(key));
+    }
+
+    private static void setProperty(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A lightweight alternative to <code>JarAnalyzer</code> and <code>JarClassesAnalysis</code> which computes a
+ * {@link JarSummary} from the memory-mapped ZIP central directory of a jar, its manifest and the first bytes of each
+ * class. A class is only inflated and parsed completely to look for debug information, until one class of the same
+ * runtime has some.
+ * <p>
+ * The results are the same as the ones of the full analysis, except that class and package names come from the entry
+ * names instead of the class files, and that the JDK revision is named for any class file version, including the
+ * versions newer than the ones known by the full analysis and preview features. ZIP64 archives are not supported: they are reported as an {@link IOException}, as
+ * any malformed archive, so that the caller can fall back to the full analysis.
+ *
+ * @since 3.9.1
+ */
+public class JarSummaryScanner {
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+
+    private static final int END_SIZE = 22;
+
+    private static final int STORED = 0;
+
+    private static final int DEFLATED = 8;
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    private static final Attributes.Name MULTI_RELEASE = new Attributes.Name("Multi-Release");
+
+    private static final Pattern VERSIONED_ENTRY = Pattern.compile("^META-INF/versions/([1-9]\\d*)/(.*)$");
+
+    private static final Integer ROOT = 0;
+
+    private final ByteBuffer zip;
+
+    private final Inflater inflater = new Inflater(true);
+
+    /**
+     * An entry of the central directory.
+     */
+    private static class Entry {
+        private final String name;
+
+        private final int method;
+
+        private final long compressedSize;
+
+        private final long size;
+
+        private final long localHeaderOffset;
+
+        Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+
+    /**
+     * The classes of one runtime: the root of the jar, or one versioned runtime of a multi-release jar.
+     */
+    private static class RuntimeClasses {
+        private int numEntries;
+
+        private final Set<String> classNames = new HashSet<>();
+
+        private final Set<String> packages = new HashSet<>();
+
+        private double highestVersion;
+
+        private double moduleInfoVersion;
+
+        private boolean debugPresent;
+    }
+
+    private JarSummaryScanner(ByteBuffer zip) {
+        this.zip = zip;
+    }
+
+    /**
+     * @param file the jar file.
+     * @return the summary of the jar.
+     * @throws IOException if the file cannot be read, is not a ZIP archive or is a ZIP64 archive.
+     */
+    public static JarSummary scan(File file) throws IOException {
+        ByteBuffer zip;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ZipException("Too large to be mapped: " + file);
+            }
+            zip = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        JarSummaryScanner scanner = new JarSummaryScanner(zip);
+        try {
+            return scanner.scan();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new ZipException("Malformed archive " + file + ": " + e);
+        } finally {
+            scanner.inflater.end();
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private JarSummary scan() throws IOException {
+        List<Entry> entries = readCentralDirectory();
+
+        Manifest manifest = null;
+        for (Entry entry : entries) {
+            if (MANIFEST.equalsIgnoreCase(entry.name)) {
+                manifest = new Manifest(new ByteArrayInputStream(read(entry, entry.size)));
+                break;
+            }
+        }
+        boolean sealed = isAttributePresent(manifest, Attributes.Name.SEALED);
+        boolean multiRelease = isAttributePresent(manifest, MULTI_RELEASE);
+
+        Map<Integer, RuntimeClasses> runtimes = new TreeMap<>();
+        for (Entry entry : entries) {
+            Matcher matcher = VERSIONED_ENTRY.matcher(entry.name);
+            boolean versioned = matcher.matches();
+            Integer version = multiRelease && versioned ? Integer.valueOf(matcher.group(1)) : ROOT;
+            RuntimeClasses runtime = runtimes.computeIfAbsent(version, v -> new RuntimeClasses());
+            runtime.numEntries++;
+
+            if (entry.name.endsWith(".class")) {
+                scanClass(entry, versioned ? matcher.group(2) : entry.name, runtime);
+            }
+        }
+
+        RuntimeClasses root = runtimes.remove(ROOT);
+        if (root == null) {
+            root = new RuntimeClasses();
+        }
+
+        List<JarSummary.VersionedRuntime> versionedRuntimes = new ArrayList<>();
+        for (Map.Entry<Integer, RuntimeClasses> entry : runtimes.entrySet()) {
+            RuntimeClasses runtime = entry.getValue();
+            versionedRuntimes.add(new JarSummary.VersionedRuntime(
+                    entry.getKey(),
+                    runtime.numEntries,
+                    runtime.classNames.size(),
+                    runtime.packages.size(),
+                    getJdkRevision(runtime),
+                    runtime.debugPresent));
+        }
+
+        return new JarSummary(
+                entries.size(),
+                root.numEntries,
+                root.classNames.size(),
+                root.packages.size(),
+                getJdkRevision(root),
+                root.debugPresent,
+                sealed,
+                multiRelease,
+                versionedRuntimes);
+    }
+
+    private List<Entry> readCentralDirectory() throws IOException {
+        int end = -1;
+        for (int i = zip.limit() - END_SIZE; i >= Math.max(0, zip.limit() - END_SIZE - 0xFFFF); i--) {
+            if (zip.getInt(i) == END_SIGNATURE) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new ZipException("zip END header not found");
+        }
+
+        int count = zip.getShort(end + 10) & 0xFFFF;
+        long offset = zip.getInt(end + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || offset == 0xFFFFFFFFL) {
+            throw new ZipException("ZIP64 archives are not supported");
+        }
+
+        List<Entry> entries = new ArrayList<>(count);
+        int position = (int) offset;
+        for (int i = 0; i < count; i++) {
+            if (zip.getInt(position) != CENTRAL_SIGNATURE) {
+                throw new ZipException("invalid central directory header");
+            }
+            int method = zip.getShort(position + 10) & 0xFFFF;
+            long compressedSize = zip.getInt(position + 20) & 0xFFFFFFFFL;
+            long size = zip.getInt(position + 24) & 0xFFFFFFFFL;
+            int nameLength = zip.getShort(position + 28) & 0xFFFF;
+            int extraLength = zip.getShort(position + 30) & 0xFFFF;
+            int commentLength = zip.getShort(position + 32) & 0xFFFF;
+            long localHeaderOffset = zip.getInt(position + 42) & 0xFFFFFFFFL;
+
+            byte[] name = new byte[nameLength];
+            ((ByteBuffer) zip.duplicate().position(position + 46)).get(name);
+
+            entries.add(new Entry(
+                    new String(name, StandardCharsets.UTF_8), method, compressedSize, size, localHeaderOffset));
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    /**
+     * Read the version of a class, and look for debug information until one class of the runtime has some.
+     *
+     * @param entry the class entry.
+     * @param path the path of the class in its runtime.
+     * @param runtime the runtime of the class.
+     */
+    private void scanClass(Entry entry, String path, RuntimeClasses runtime) throws IOException {
+        byte[] header = read(entry, 8);
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        if (header.length < 8 || buffer.getInt() != CLASS_MAGIC) {
+            // not counted, as a class the full analysis cannot parse
+            return;
+        }
+        int minor = buffer.getShort() & 0xFFFF;
+        int major = buffer.getShort() & 0xFFFF;
+
+        if (!runtime.debugPresent) {
+            runtime.debugPresent = hasDebugSymbols(ByteBuffer.wrap(read(entry, entry.size)));
+        }
+
+        String className = path.substring(0, path.length() - ".class".length());
+
+        // the minor version of classes using preview features is 0xFFFF
+        double version = major + (minor > 0 && minor != 0xFFFF ? minor / 10.0 : 0);
+        if ("module-info".equals(className)) {
+            runtime.moduleInfoVersion = version;
+        } else {
+            runtime.highestVersion = Math.max(runtime.highestVersion, version);
+        }
+        runtime.classNames.add(className);
+        int slash = className.lastIndexOf('/');
+        runtime.packages.add(slash < 0 ? "" : className.substring(0, slash).replace('/', '.'));
+    }
+
+    /**
+     * @param entry the entry.
+     * @param length the number of bytes to read from the start of the entry.
+     * @return the first bytes of the uncompressed content of the entry, fewer if the entry is shorter.
+     */
+    private byte[] read(Entry entry, long length) throws IOException {
+        int localHeader = (int) entry.localHeaderOffset;
+        if (zip.getInt(localHeader) != LOCAL_SIGNATURE) {
+            throw new ZipException("invalid local header for " + entry.name);
+        }
+        int data = localHeader + 30 + (zip.getShort(localHeader + 26) & 0xFFFF)
+                + (zip.getShort(localHeader + 28) & 0xFFFF);
+        int size = (int) Math.min(length, entry.size);
+
+        ByteBuffer content = zip.duplicate();
+        content.position(data);
+        if (entry.method == STORED) {
+            byte[] bytes = new byte[size];
+            content.get(bytes);
+            return bytes;
+        }
+        if (entry.method != DEFLATED) {
+            throw new ZipException("unsupported compression method " + entry.method + " for " + entry.name);
+        }
+
+        byte[] bytes = new byte[size];
+        byte[] input = new byte[(int) Math.min(8192, Math.max(1, entry.compressedSize))];
+        long remaining = entry.compressedSize;
+        int read = 0;
+        inflater.reset();
+        try {
+            while (read < size && !inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (remaining == 0) {
+                        // the inflater may need one more byte than the compressed data in nowrap mode
+                        inflater.setInput(new byte[1]);
+                    } else {
+                        int chunk = (int) Math.min(input.length, remaining);
+                        content.get(input, 0, chunk);
+                        remaining -= chunk;
+                        inflater.setInput(input, 0, chunk);
+                    }
+                }
+                int inflated = inflater.inflate(bytes, read, size - read);
+                if (inflated == 0 && inflater.needsInput() && remaining == 0) {
+                    break;
+                }
+                read += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("invalid compressed data for " + entry.name + ": " + e.getMessage());
+        }
+        return read == size ? bytes : Arrays.copyOf(bytes, read);
+    }
+
+    /**
+     * @param buffer the class file content.
+     * @return <code>true</code> if a method of the class has a line number table, as checked by the full analysis.
+     */
+    private static boolean hasDebugSymbols(ByteBuffer buffer) {
+        try {
+            buffer.position(8);
+            int constantCount = buffer.getShort() & 0xFFFF;
+            int lineNumberTable = -1;
+            int code = -1;
+            for (int i = 1; i < constantCount; i++) {
+                int tag = buffer.get();
+                switch (tag) {
+                    case 1: // Utf8
+                        int length = buffer.getShort() & 0xFFFF;
+                        String value = length == 15 || length == 4 ? readUtf8(buffer, length) : null;
+                        if (value == null) {
+                            buffer.position(buffer.position() + length);
+                        } else if ("LineNumberTable".equals(value)) {
+                            lineNumberTable = i;
+                        } else if ("Code".equals(value)) {
+                            code = i;
+                        }
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        buffer.position(buffer.position() + 8);
+                        i++;
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        buffer.position(buffer.position() + 4);
+                        break;
+                    case 15: // MethodHandle
+                        buffer.position(buffer.position() + 3);
+                        break;
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        buffer.position(buffer.position() + 2);
+                        break;
+                    default:
+                        return false;
+                }
+            }
+            if (lineNumberTable < 0 || code < 0) {
+                return false;
+            }
+
+            // access flags, this class, super class, interfaces
+            buffer.position(buffer.position() + 6);
+            int interfaceCount = buffer.getShort() & 0xFFFF;
+            buffer.position(buffer.position() + 2 * interfaceCount);
+
+            int fieldCount = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < fieldCount; i++) {
+                buffer.position(buffer.position() + 6);
+                skipAttributes(buffer);
+            }
+
+            int methodCount = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < methodCount; i++) {
+                buffer.position(buffer.position() + 6);
+                int attributeCount = buffer.getShort() & 0xFFFF;
+                for (int j = 0; j < attributeCount; j++) {
+                    int name = buffer.getShort() & 0xFFFF;
+                    int length = buffer.getInt();
+                    int next = buffer.position() + length;
+                    if (name == code && hasLineNumbers(buffer, lineNumberTable)) {
+                        return true;
+                    }
+                    buffer.position(next);
+                }
+            }
+            return false;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param buffer positioned at the content of a <code>Code</code> attribute.
+     * @param lineNumberTable the constant pool index of the <code>LineNumberTable</code> name.
+     * @return <code>true</code> if the code has a line number table with at least one line.
+     */
+    private static boolean hasLineNumbers(ByteBuffer buffer, int lineNumberTable) {
+        // max stack, max locals, code, exception table
+        buffer.position(buffer.position() + 4);
+        int codeLength = buffer.getInt();
+        buffer.position(buffer.position() + codeLength);
+        int exceptionCount = buffer.getShort() & 0xFFFF;
+        buffer.position(buffer.position() + 8 * exceptionCount);
+
+        int attributeCount = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < attributeCount; i++) {
+            int name = buffer.getShort() & 0xFFFF;
+            int length = buffer.getInt();
+            if (name == lineNumberTable) {
+                return (buffer.getShort() & 0xFFFF) > 0;
+            }
+            buffer.position(buffer.position() + length);
+        }
+        return false;
+    }
+
+    private static void skipAttributes(ByteBuffer buffer) {
+        int attributeCount = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < attributeCount; i++) {
+            buffer.position(buffer.position() + 2);
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private static String readUtf8(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isAttributePresent(Manifest manifest, Attributes.Name name) {
+        if (manifest == null) {
+            return false;
+        }
+        String value = manifest.getMainAttributes().getValue(name);
+        return value != null && "true".equalsIgnoreCase(value.trim());
+    }
+
+    /**
+     * @param runtime the classes of a runtime.
+     * @return the JDK revision of the highest class file version, or of <code>module-info</code> when the runtime has
+     * no other class, as named by the full analysis, <code>null</code> if older than Java 1.1.
+     */
+    private static String getJdkRevision(RuntimeClasses runtime) {
+        double version = runtime.highestVersion == 0 ? runtime.moduleInfoVersion : runtime.highestVersion;
+        if (version == 45.3) {
+            return "1.1";
+        }
+        if (version != Math.floor(version) || version < 46) {
+            return null;
+        }
+        int major = (int) version;
+        return major <= 52 ? "1." + (major - 44) : String.valueOf(major - 44);
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.maven.model.License;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Profile;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+
+/**
+ * Reads the {@link ProjectMetadata} of an artifact straight from its raw POM and the raw POMs of its parents, without
+ * building the effective model. Only the name, description, url and licenses are computed, following the Maven
+ * inheritance rules for these fields.
+ * <p>
+ * When a POM needs more than that, like property interpolation or a parent version range, {@link #read} returns
+ * <code>null</code> and the Maven project has to be built instead.
+ *
+ * @since 3.9.1
+ */
+class PomMetadataReader {
+    private static final String MODELS_KEY = PomMetadataReader.class.getName() + ".models";
+
+    private static final String CHILD_DIRECTORY_PROPERTY = "project.directory";
+
+    private final RepositorySystem repositorySystem;
+
+    private final RepositorySystemSession repositorySession;
+
+    private final List<RemoteRepository> repositories;
+
+    /**
+     * @param repositorySystem the repository system used to resolve the POMs.
+     * @param repositorySession the repository session.
+     * @param repositories the remote repositories to resolve the POMs from.
+     */
+    PomMetadataReader(
+            RepositorySystem repositorySystem,
+            RepositorySystemSession repositorySession,
+            List<RemoteRepository> repositories) {
+        this.repositorySystem = repositorySystem;
+        this.repositorySession = repositorySession;
+        this.repositories = repositories;
+    }
+
+    /**
+     * @param groupId the artifact groupId.
+     * @param artifactId the artifact artifactId.
+     * @param version the artifact version.
+     * @return the metadata of the artifact, or <code>null</code> if it cannot be read without building the project.
+     */
+    ProjectMetadata read(String groupId, String artifactId, String version) {
+        // child first, the root parent last
+        List<Model> lineage = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+
+        Model model = readModel(groupId, artifactId, version);
+        while (model != null) {
+            lineage.add(model);
+
+            Parent parent = model.getParent();
+            if (parent == null) {
+                break;
+            }
+            if (hasExpression(parent.getGroupId())
+                    || hasExpression(parent.getArtifactId())
+                    || hasExpression(parent.getVersion())
+                    || isVersionRange(parent.getVersion())
+                    || !visited.add(parent.getId())) {
+                return null;
+            }
+
+            model = getParentModel(parent);
+            if (model == null) {
+                return null;
+            }
+        }
+        if (lineage.isEmpty()) {
+            return null;
+        }
+
+        Model child = lineage.get(0);
+        String name = child.getName() != null ? child.getName() : artifactId;
+        String description = null;
+        List<License> licenses = null;
+        for (Model m : lineage) {
+            if (description == null) {
+                description = m.getDescription();
+            }
+            if (licenses == null && !m.getLicenses().isEmpty()) {
+                licenses = m.getLicenses();
+            }
+        }
+
+        for (Model m : lineage) {
+            String childDirectory = getChildDirectory(m);
+            if (childDirectory == null
+                    || hasExpression(childDirectory)
+                    || hasExpression(m.getChildProjectUrlInheritAppendPath())) {
+                return null;
+            }
+        }
+        String url = getUrl(lineage);
+
+        if (hasExpression(name) || hasExpression(description) || hasExpression(url)) {
+            return null;
+        }
+        if (licenses != null) {
+            for (License license : licenses) {
+                if (hasExpression(license.getName()) || hasExpression(license.getUrl())) {
+                    return null;
+                }
+            }
+        }
+
+        return new ProjectMetadata(groupId, artifactId, version, name, description, url, licenses);
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Computes the url like the Maven inheritance assembler: from the root parent down to the child, a model without
+     * url inherits the one of its parent, with its own directory appended unless the parent disables it with
+     * <code>child.project.url.inherit.append.path="false"</code>.
+     */
+    private String getUrl(List<Model> lineage) {
+        String url = null;
+        String appendPath = null;
+        for (int i = lineage.size() - 1; i >= 0; i--) {
+            Model model = lineage.get(i);
+            if (model.getUrl() != null) {
+                url = model.getUrl();
+            } else if (url != null
+                    && !url.trim().isEmpty()
+                    && (appendPath == null || Boolean.parseBoolean(appendPath))) {
+                String childDirectory = getChildDirectory(model);
+
+                StringBuilder sb = new StringBuilder(url);
+                concatPath(sb, getChildPathAdjustment(model, lineage.get(i + 1), childDirectory));
+                concatPath(sb, childDirectory);
+                url = sb.toString();
+            }
+
+            if (model.getChildProjectUrlInheritAppendPath() != null) {
+                appendPath = model.getChildProjectUrlInheritAppendPath();
+            }
+        }
+        return url;
+    }
+
+    private static String getChildDirectory(Model model) {
+        return model.getProperties().getProperty(CHILD_DIRECTORY_PROPERTY, model.getArtifactId());
+    }
+
+    private static String getChildPathAdjustment(Model child, Model parent, String childDirectory) {
+        String childName = child.getArtifactId();
+        for (String module : parent.getModules()) {
+            module = module.replace('\\', '/');
+
+            if (module.regionMatches(true, module.length() - 4, ".xml", 0, 4)) {
+                module = module.substring(0, module.lastIndexOf('/') + 1);
+            }
+
+            String moduleName = module;
+            if (moduleName.endsWith("/")) {
+                moduleName = moduleName.substring(0, moduleName.length() - 1);
+            }
+
+            int lastSlash = moduleName.lastIndexOf('/');
+
+            moduleName = moduleName.substring(lastSlash + 1);
+
+            if ((moduleName.equals(childName) || moduleName.equals(childDirectory)) && lastSlash >= 0) {
+                return module.substring(0, lastSlash);
+            }
+        }
+        return "";
+    }
+
+    private static void concatPath(StringBuilder url, String path) {
+        if (path.length() > 0) {
+            boolean initialUrlEndsWithSlash = url.charAt(url.length() - 1) == '/';
+            boolean pathStartsWithSlash = path.charAt(0) == '/';
+
+            if (pathStartsWithSlash) {
+                if (initialUrlEndsWithSlash) {
+                    // 1 extra '/' to remove
+                    url.setLength(url.length() - 1);
+                }
+            } else if (!initialUrlEndsWithSlash) {
+                // add missing '/' between url and path
+                url.append('/');
+            }
+
+            url.append(path);
+
+            // ensure resulting url ends with slash if initial url was
+            if (initialUrlEndsWithSlash && !path.endsWith("/")) {
+                url.append('/');
+            }
+        }
+    }
+
+    private Model getParentModel(Parent parent) {
+        ConcurrentMap<String, Model> models = getModels(repositorySession);
+        Model model = models.get(parent.getId());
+        if (model == null) {
+            model = readModel(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+            if (model == null || hasModulesInProfiles(model)) {
+                return null;
+            }
+            models.putIfAbsent(parent.getId(), model);
+        }
+        return model;
+    }
+
+    private Model readModel(String groupId, String artifactId, String version) {
+        File pomFile;
+        try {
+            DefaultArtifact pomArtifact = new DefaultArtifact(groupId, artifactId, null, "pom", version);
+            ArtifactRequest request = new ArtifactRequest(pomArtifact, repositories, null);
+            pomFile = repositorySystem
+                    .resolveArtifact(repositorySession, request)
+                    .getArtifact()
+                    .getFile();
+        } catch (ArtifactResolutionException e) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+            return new MavenXpp3Reader().read(in, false);
+        } catch (IOException | XmlPullParserException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Modules added by a profile could change the path appended to an inherited url.
+     */
+    private static boolean hasModulesInProfiles(Model model) {
+        for (Profile profile : model.getProfiles()) {
+            if (!profile.getModules().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasExpression(String value) {
+        return value != null && value.contains("${");
+    }
+
+    private static boolean isVersionRange(String version) {
+        return version != null && (version.startsWith("[") || version.startsWith("("));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, Model> getModels(RepositorySystemSession repositorySession) {
+        SessionData data = repositorySession.getData();
+        ConcurrentMap<String, Model> models = (ConcurrentMap<String, Model>) data.get(MODELS_KEY);
+        while (models == null) {
+            data.set(MODELS_KEY, null, new ConcurrentHashMap<String, Model>());
+            models = (ConcurrentMap<String, Model>) data.get(MODELS_KEY);
+        }
+        return models;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.model.License;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * The few fields of an artifact POM which are displayed by the dependency and plugin reports: coordinates, name,
+ * description, url and licenses.
+ *
+ * @since 3.9.1
+ */
+public class ProjectMetadata {
+    private final String groupId;
+
+    private final String artifactId;
+
+    private final String version;
+
+    private final String name;
+
+    private final String description;
+
+    private final String url;
+
+    private final List<License> licenses;
+
+    /**
+     * @param groupId the project groupId.
+     * @param artifactId the project artifactId.
+     * @param version the project version.
+     * @param name the project name, never <code>null</code>.
+     * @param description the project description, could be <code>null</code>.
+     * @param url the project url, could be <code>null</code>.
+     * @param licenses the project licenses, could be <code>null</code>.
+     */
+    public ProjectMetadata(
+            String groupId,
+            String artifactId,
+            String version,
+            String name,
+            String description,
+            String url,
+            List<License> licenses) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.name = name;
+        this.description = description;
+        this.url = url;
+        this.licenses = licenses == null
+                ? Collections.<License>emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(licenses));
+    }
+
+    /**
+     * @param project the Maven project built from the artifact POM.
+     * @return the metadata of the given project.
+     */
+    public static ProjectMetadata of(MavenProject project) {
+        return new ProjectMetadata(
+                project.getGroupId(),
+                project.getArtifactId(),
+                project.getVersion(),
+                project.getName(),
+                project.getDescription(),
+                project.getUrl(),
+                project.getLicenses());
+    }
+
+    /**
+     * @return the project groupId.
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * @return the project artifactId.
+     */
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    /**
+     * @return the project version.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the project name, defaults to the artifactId like {@link MavenProject#getName()}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the project description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the project url.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return an unmodifiable list of licenses, never <code>null</code>.
+     */
+    public List<License> getLicenses() {
+        return licenses;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.maven.model.License;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * A persistent cache of {@link ProjectMetadata}, stored as one properties file per
+ * <code>groupId:artifactId:version</code>. Each entry records the checksum of the POM it was read from combined with
+ * the ones of its parent POMs, as the metadata is often inherited, and is only used as long as these POMs in the
+ * local repository still have the same checksum. It records the reader of the metadata too, full or lightweight, and
+ * is only used by the same reader, so both readers can be compared.
+ * <p>
+ * Failures to build a project can be recorded too, with their reason and the repositories the project was built
+ * from, and are only used until they expire and for the same repositories.
+ * <p>
+ * The cache is best effort: any I/O problem is reported as a cache miss.
+ *
+ * @since 3.9.1
+ */
+public class ProjectMetadataCache {
+    private static final String CHECKSUM = "checksum";
+
+    private static final String READER = "reader";
+
+    private static final String NAME = "name";
+
+    private static final String DESCRIPTION = "description";
+
+    private static final String URL = "url";
+
+    private static final String LICENSE_COUNT = "licenses";
+
+    private static final String LICENSE_PREFIX = "license.";
+
+    private static final String FAILURE_REASON = "reason";
+
+    private static final String FAILURE_TIME = "time";
+
+    private static final String FAILURE_REPOSITORIES = "repositories";
+
+    private final File directory;
+
+    /**
+     * @param directory the cache root directory, created when the first entry is stored.
+     */
+    public ProjectMetadataCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cache root directory.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param groupId the artifact groupId.
+     * @param artifactId the artifact artifactId.
+     * @param version the artifact version.
+     * @param checksum the {@link #lineageChecksum(File, Function) checksum} of the current POM file and its parents.
+     * @param lightweight whether the metadata is wanted from {@link PomMetadataReader} rather than from the project
+     * builder.
+     * @return the cached metadata, or <code>null</code> if not cached, cached for another POM content or cached by the
+     * other reader.
+     */
+    public ProjectMetadata get(
+            String groupId, String artifactId, String version, String checksum, boolean lightweight) {
+        Properties properties = load(getFile(groupId, artifactId, version, ".properties"));
+        if (properties == null
+                || !checksum.equals(properties.getProperty(CHECKSUM))
+                || !getReader(lightweight).equals(properties.getProperty(READER))) {
+            return null;
+        }
+
+        int licenseCount;
+        try {
+            licenseCount = Integer.parseInt(properties.getProperty(LICENSE_COUNT, "0"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        List<License> licenses = new ArrayList<>();
+        for (int i = 0; i < licenseCount; i++) {
+            License license = new License();
+            license.setName(properties.getProperty(LICENSE_PREFIX + i + ".name"));
+            license.setUrl(properties.getProperty(LICENSE_PREFIX + i + ".url"));
+            licenses.add(license);
+        }
+
+        String name = properties.getProperty(NAME);
+        String description = properties.getProperty(DESCRIPTION);
+        String url = properties.getProperty(URL);
+        return new ProjectMetadata(groupId, artifactId, version, name, description, url, licenses);
+    }
+
+    /**
+     * @param groupId the artifact groupId.
+     * @param artifactId the artifact artifactId.
+     * @param version the artifact version.
+     * @param checksum the {@link #lineageChecksum(File, Function) checksum} of the POM file the metadata was read from
+     * and its parents.
+     * @param lightweight whether the metadata was read by {@link PomMetadataReader} rather than by the project builder.
+     * @param metadata the metadata to store.
+     */
+    public void put(
+            String groupId,
+            String artifactId,
+            String version,
+            String checksum,
+            boolean lightweight,
+            ProjectMetadata metadata) {
+        Properties properties = new Properties();
+        properties.setProperty(CHECKSUM, checksum);
+        properties.setProperty(READER, getReader(lightweight));
+        setProperty(properties, NAME, metadata.getName());
+        setProperty(properties, DESCRIPTION, metadata.getDescription());
+        setProperty(properties, URL, metadata.getUrl());
+
+        List<License> licenses = metadata.getLicenses();
+        properties.setProperty(LICENSE_COUNT, String.valueOf(licenses.size()));
+        for (int i = 0; i < licenses.size(); i++) {
+            setProperty(properties, LICENSE_PREFIX + i + ".name", licenses.get(i).getName());
+            setProperty(properties, LICENSE_PREFIX + i + ".url", licenses.get(i).getUrl());
+        }
+
+        File file = getFile(groupId, artifactId, version, ".properties");
+        store(file, properties, groupId + ':' + artifactId + ':' + version);
+    }
+
+    /**
+     * @param groupId the artifact groupId.
+     * @param artifactId the artifact artifactId.
+     * @param version the artifact version.
+     * @param repositories the ids and urls of the repositories the project is built from.
+     * @param ttl how long a failure is kept, in milliseconds.
+     * @return the reason of the failure recorded less than <code>ttl</code> ago for the same repositories, or
+     * <code>null</code> if none.
+     */
+    public String getFailure(String groupId, String artifactId, String version, String repositories, long ttl) {
+        Properties properties = load(getFile(groupId, artifactId, version, ".failure"));
+        if (properties == null || !repositories.equals(properties.getProperty(FAILURE_REPOSITORIES))) {
+            return null;
+        }
+
+        try {
+            long time = Long.parseLong(properties.getProperty(FAILURE_TIME, "0"));
+            return System.currentTimeMillis() - time < ttl ? properties.getProperty(FAILURE_REASON, "") : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param groupId the artifact groupId.
+     * @param artifactId the artifact artifactId.
+     * @param version the artifact version.
+     * @param repositories the ids and urls of the repositories the project was built from.
+     * @param reason the reason of the failure.
+     */
+    public void putFailure(String groupId, String artifactId, String version, String repositories, String reason) {
+        Properties properties = new Properties();
+        setProperty(properties, FAILURE_REASON, reason);
+        properties.setProperty(FAILURE_REPOSITORIES, repositories);
+        properties.setProperty(FAILURE_TIME, String.valueOf(System.currentTimeMillis()));
+
+        File file = getFile(groupId, artifactId, version, ".failure");
+        store(file, properties, groupId + ':' + artifactId + ':' + version);
+    }
+
+    /**
+     * @param file the file to compute the checksum of.
+     * @return the hexadecimal SHA-1 checksum of the file content.
+     * @throws IOException if the file cannot be read.
+     */
+    public static String checksum(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        // streamed, as this is also used for dependency files
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @param pomFile the POM file to compute the checksum of.
+     * @param parentLocator gives the file of a parent POM in the local repository.
+     * @return the hexadecimal SHA-1 checksum of the checksums of the POM file and of all its parent POM files, or
+     * <code>null</code> if a parent POM is not in the local repository or is not located by fixed coordinates.
+     * @throws IOException if a POM file cannot be read.
+     */
+    public static String lineageChecksum(File pomFile, Function<Parent, File> parentLocator) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        Set<File> visited = new HashSet<>();
+        File file = pomFile;
+        while (file != null) {
+            if (!file.isFile() || !visited.add(file)) {
+                return null;
+            }
+            digest.update(checksum(file).getBytes(StandardCharsets.US_ASCII));
+
+            Parent parent = readParent(file);
+            if (parent == null) {
+                break;
+            }
+            if (hasExpression(parent.getGroupId())
+                    || hasExpression(parent.getArtifactId())
+                    || hasExpression(parent.getVersion())) {
+                return null;
+            }
+            file = parentLocator.apply(parent);
+        }
+        return toHex(digest.digest());
+    }
+
+    static String toHex(byte[] hash) {
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private File getFile(String groupId, String artifactId, String version, String extension) {
+        File dir = new File(directory, groupId.replace('.', '/') + '/' + artifactId + '/' + version);
+        return new File(dir, artifactId + '-' + version + extension);
+    }
+
+    static Properties load(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+        return properties;
+    }
+
+    static void store(File file, Properties properties, String comment) {
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+
+            // write to a temporary file first, so concurrent builds never read a partial entry
+            Path tmp = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    properties.store(out, comment);
+                }
+                move(tmp, file.toPath());
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // best effort: the entry will be computed again next time
+        }
+    }
+
+    private static Parent readParent(File pomFile) throws IOException {
+        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+            return new MavenXpp3Reader().read(in, false).getParent();
+        } catch (XmlPullParserException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static String getReader(boolean lightweight) {
+        return lightweight ? "lightweight" : "full";
+    }
+
+    private static boolean hasExpression(String value) {
+        return value == null || value.contains("${");
+    }
+
+    private static void setProperty(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Memo of the {@link ProjectMetadata} looked up during one build session, shared by all report mojos and reactor
+ * modules. It is stored in the repository session data, so it lives exactly as long as the session.
+ * <p>
+ * Each key is loaded at most once, even when requested concurrently: later callers wait for the first load and get
+ * the same result, including the same {@link ProjectBuildingException} when the load failed. Failed keys are also
+ * queued once, so they can be reported together instead of at each lookup.
+ * <p>
+ * A key is made of coordinates and of the context of the load, like the repositories it is loaded from, so callers
+ * with another context load it again.
+ * <p>
+ * The memo also keeps the coordinates of the reactor projects, which are not looked up in the metadata cache.
+ *
+ * @since 3.9.1
+ */
+class ProjectMetadataMemo {
+    private static final String SESSION_KEY = ProjectMetadataMemo.class.getName();
+
+    private final ConcurrentMap<String, FutureTask<ProjectMetadata>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+    private volatile Set<String> reactorProjects;
+
+    /**
+     * @param repositorySession the repository session.
+     * @return the memo of the given session, created on first use.
+     */
+    static ProjectMetadataMemo of(RepositorySystemSession repositorySession) {
+        SessionData data = repositorySession.getData();
+        ProjectMetadataMemo memo = (ProjectMetadataMemo) data.get(SESSION_KEY);
+        while (memo == null) {
+            data.set(SESSION_KEY, null, new ProjectMetadataMemo());
+            memo = (ProjectMetadataMemo) data.get(SESSION_KEY);
+        }
+        return memo;
+    }
+
+    /**
+     * @param key the memo key.
+     * @param loader the loader called when the key was never requested before.
+     * @return the metadata for the key.
+     * @throws ProjectBuildingException if the load of the key failed.
+     */
+    ProjectMetadata get(String key, Callable<ProjectMetadata> loader) throws ProjectBuildingException {
+        return get(key, "", loader);
+    }
+
+    /**
+     * @param coordinates the coordinates, reported with a failure.
+     * @param context the context of the load, which is part of the memo key.
+     * @param loader the loader called when the coordinates were never requested before in this context.
+     * @return the metadata for the coordinates in this context.
+     * @throws ProjectBuildingException if the load failed.
+     */
+    ProjectMetadata get(String coordinates, String context, Callable<ProjectMetadata> loader)
+            throws ProjectBuildingException {
+        String key = context.isEmpty() ? coordinates : coordinates + ' ' + context;
+        boolean loaded = false;
+        FutureTask<ProjectMetadata> task = entries.get(key);
+        if (task == null) {
+            FutureTask<ProjectMetadata> newTask = new FutureTask<>(loader);
+            task = entries.putIfAbsent(key, newTask);
+            if (task == null) {
+                task = newTask;
+                misses.incrementAndGet();
+                loaded = true;
+                task.run();
+            } else {
+                hits.incrementAndGet();
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectBuildingException(coordinates, "Interrupted while waiting for " + coordinates, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (loaded) {
+                failures.add(coordinates + ": " + getFirstLine(cause.getMessage()));
+            }
+            if (cause instanceof ProjectBuildingException) {
+                throw (ProjectBuildingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @param coordinates the <code>groupId:artifactId:version</code> coordinates.
+     * @param projects the projects of the reactor, only read on first call: they do not change during the session.
+     * @return <code>true</code> if the coordinates are the ones of a reactor project.
+     */
+    boolean isReactorProject(String coordinates, Collection<MavenProject> projects) {
+        Set<String> keys = reactorProjects;
+        if (keys == null) {
+            keys = new HashSet<>();
+            if (projects != null) {
+                for (MavenProject project : projects) {
+                    keys.add(project.getGroupId() + ':' + project.getArtifactId() + ':' + project.getVersion());
+                }
+            }
+            reactorProjects = keys;
+        }
+        return keys.contains(coordinates);
+    }
+
+    /**
+     * @return the failures queued since the last call, as <code>key: reason</code> lines.
+     */
+    List<String> drainFailures() {
+        List<String> drained = new ArrayList<>();
+        String failure;
+        while ((failure = failures.poll()) != null) {
+            drained.add(failure);
+        }
+        return drained;
+    }
+
+    /**
+     * @return the number of lookups answered from the memo.
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which had to be loaded.
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static String getFirstLine(String message) {
+        if (message == null) {
+            return "unknown reason";
+        }
+        int eol = message.indexOf('\n');
+        return (eol < 0 ? message : message.substring(0, eol)).trim();
+    }
+}
@@ -23,14 +23,30 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
@@ -79,6 +95,52 @@ public class RepositoryUtils {
         artifact.setResolved(true);
     }
 
+    /**
+     * Resolve all the given artifacts with one request to the repository system, which downloads them in parallel.
+     * The files of the resolved artifacts are set, even when other artifacts could not be resolved.
+     *
+     * @param artifacts not null
+     * @throws ArtifactResolutionException if any, with one result per artifact, in the same order
+     * @since 3.9.1
+     */
+    public void resolve(List<Artifact> artifacts) throws ArtifactResolutionException {
+        if (artifacts.isEmpty()) {
+            return;
+        }
+
+        MavenSession session = sessionProvider.get();
+        MavenProject project = session.getCurrentProject();
+
+        List<ArtifactRequest> requests = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            requests.add(new ArtifactRequest(
+                    org.apache.maven.RepositoryUtils.toArtifact(artifact),
+                    project.getRemoteProjectRepositories(),
+                    null));
+        }
+
+        List<ArtifactResult> results;
+        ArtifactResolutionException failure = null;
+        try {
+            results = repositorySystem.resolveArtifacts(session.getRepositorySession(), requests);
+        } catch (ArtifactResolutionException e) {
+            results = e.getResults();
+            failure = e;
+        }
+
+        for (int i = 0; i < artifacts.size(); i++) {
+            ArtifactResult result = results.get(i);
+            if (result.isResolved()) {
+                artifacts.get(i).setFile(result.getArtifact().getFile());
+                artifacts.get(i).setResolved(true);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     /**
      * Get the <code>Maven project</code> from the repository depending the <code>Artifact</code> given.
      *
@@ -87,18 +149,325 @@ public class RepositoryUtils {
      * @throws ProjectBuildingException if any
      */
     public MavenProject getMavenProjectFromRepository(Artifact artifact) throws ProjectBuildingException {
+        MavenSession session = sessionProvider.get();
+        return getMavenProjectFromRepository(session, session.getCurrentProject(), artifact);
+    }
 
-        boolean allowStubModel = false;
-        if (!"pom".equals(artifact.getType())) {
-            allowStubModel = true;
+    /**
+     * Get the {@link ProjectMetadata} for the given artifact. When the persistent metadata cache is enabled and the
+     * artifact POM in the local repository did not change since it was cached, the Maven project is not built.
+     *
+     * @param artifact an artifact
+     * @param configuration the report configuration
+     * @return the metadata of the Maven project for the given artifact
+     * @throws ProjectBuildingException if any
+     * @since 3.9.1
+     */
+    public ProjectMetadata getProjectMetadata(Artifact artifact, DependenciesReportConfiguration configuration)
+            throws ProjectBuildingException {
+        MavenSession session = sessionProvider.get();
+        MavenProject project = session.getCurrentProject();
+
+        return ProjectMetadataMemo.of(session.getRepositorySession())
+                .get(
+                        getProjectMetadataKey(artifact),
+                        getProjectMetadataContext(project, configuration),
+                        () -> loadProjectMetadata(session, project, artifact, configuration));
+    }
+
+    /**
+     * Fetch concurrently the {@link ProjectMetadata} of all the given artifacts, so later calls to
+     * {@link #getProjectMetadata(Artifact, DependenciesReportConfiguration)} only read completed results. Failures
+     * are kept too and reported by these later calls.
+     *
+     * @param artifacts the artifacts to prefetch
+     * @param configuration the report configuration, with the number of threads to use
+     * @since 3.9.1
+     */
+    public void prefetchProjectMetadata(Collection<Artifact> artifacts, DependenciesReportConfiguration configuration) {
+        int threads = Math.min(configuration.getMetadataThreads(), artifacts.size());
+        if (threads <= 1) {
+            return;
         }
 
+        // the session and its current project are scoped to the calling thread, capture them for the workers
+        MavenSession session = sessionProvider.get();
+        MavenProject project = session.getCurrentProject();
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(session.getRepositorySession());
+        String context = getProjectMetadataContext(project, configuration);
+
+        ExecutorService executor = newExecutor(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(artifacts.size());
+            for (Artifact artifact : artifacts) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        memo.get(getProjectMetadataKey(artifact), context, () -> loadProjectMetadata(
+                                session, project, artifact, configuration));
+                    } catch (ProjectBuildingException | RuntimeException e) {
+                        // memoized, reported when rendered
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // memoized, reported when rendered
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Get the {@link ProjectMetadata} of a plugin. The result is memoized for the whole build session.
+     *
+     * @param pluginArtifact the plugin project artifact, its version could be a <code>RELEASE</code> or a range
+     * @param buildingRequest the project building request, with the plugin repositories
+     * @return the metadata of the plugin project, with its resolved version
+     * @throws ProjectBuildingException if any
+     * @since 3.9.1
+     */
+    public ProjectMetadata getPluginProjectMetadata(Artifact pluginArtifact, ProjectBuildingRequest buildingRequest)
+            throws ProjectBuildingException {
         MavenSession session = sessionProvider.get();
 
+        String key = "plugin:" + pluginArtifact.getGroupId() + ':' + pluginArtifact.getArtifactId() + ':'
+                + pluginArtifact.getVersion();
+        return ProjectMetadataMemo.of(session.getRepositorySession())
+                .get(key, getRepositoriesKey(buildingRequest.getRemoteRepositories()), () -> ProjectMetadata.of(
+                        projectBuilder.build(pluginArtifact, buildingRequest).getProject()));
+    }
+
+    /**
+     * Log the hit and miss counters of the project metadata memo of the current session at debug level, and one
+     * warning listing the artifacts whose Maven project could not be built since the last call.
+     *
+     * @param log the log to use
+     * @since 3.9.1
+     */
+    public void logProjectMetadataSummary(Log log) {
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(sessionProvider.get().getRepositorySession());
+
+        List<String> failures = memo.drainFailures();
+        if (!failures.isEmpty()) {
+            StringBuilder sb = new StringBuilder("Unable to create Maven project from repository for ")
+                    .append(failures.size())
+                    .append(" artifact(s), for more information run with -X:");
+            for (String failure : failures) {
+                sb.append(System.lineSeparator()).append("  ").append(failure);
+            }
+            log.warn(sb.toString());
+        }
+
+        log.debug("Project metadata memo: " + memo.getHits() + " hits, " + memo.getMisses() + " misses");
+    }
+
+    /**
+     * @param threads the number of threads.
+     * @return a fixed pool of virtual threads on Java 21 and later, of platform threads otherwise.
+     */
+    public static ExecutorService newExecutor(int threads) {
+        try {
+            // Java 21+: Thread.ofVirtual().factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            ThreadFactory factory = (ThreadFactory)
+                    Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            return Executors.newFixedThreadPool(threads, factory);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static String getProjectMetadataKey(Artifact artifact) {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion()
+                + ("pom".equals(artifact.getType()) ? ":pom" : "");
+    }
+
+    /**
+     * The metadata of an artifact depends on the repositories it is loaded from and on the reader.
+     */
+    private static String getProjectMetadataContext(
+            MavenProject project, DependenciesReportConfiguration configuration) {
+        return (configuration.isLightweightMetadataReader() ? "lightweight" : "full")
+                + getRepositoriesKey(project.getRemoteArtifactRepositories());
+    }
+
+    /**
+     * @param repositories the repositories, could be <code>null</code>.
+     * @return the ids and urls of the repositories.
+     */
+    static String getRepositoriesKey(List<ArtifactRepository> repositories) {
+        StringBuilder sb = new StringBuilder();
+        if (repositories != null) {
+            for (ArtifactRepository repository : repositories) {
+                sb.append(' ').append(repository.getId()).append('=').append(repository.getUrl());
+            }
+        }
+        return sb.toString();
+    }
+
+    private MavenProject getMavenProjectFromRepository(MavenSession session, MavenProject project, Artifact artifact)
+            throws ProjectBuildingException {
+        boolean allowStubModel = !"pom".equals(artifact.getType());
+
         ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-        buildingRequest.setRemoteRepositories(session.getCurrentProject().getRemoteArtifactRepositories());
+        buildingRequest.setRemoteRepositories(project.getRemoteArtifactRepositories());
         buildingRequest.setProcessPlugins(false);
 
         return projectBuilder.build(artifact, allowStubModel, buildingRequest).getProject();
     }
+
+    private ProjectMetadata loadProjectMetadata(
+            MavenSession session,
+            MavenProject currentProject,
+            Artifact artifact,
+            DependenciesReportConfiguration configuration)
+            throws ProjectBuildingException {
+        boolean reactorProject = isReactorProject(session, artifact);
+
+        ProjectMetadataCache cache = null;
+        File pomFile = null;
+        if (configuration.isMetadataCacheEnabled() && !reactorProject) {
+            cache = getMetadataCache(session, configuration);
+            pomFile = getLocalPomFile(session.getRepositorySession(), artifact);
+
+            ProjectMetadata metadata = getCachedMetadata(
+                    session.getRepositorySession(),
+                    cache,
+                    artifact,
+                    pomFile,
+                    configuration.isLightweightMetadataReader());
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+
+        String groupId = artifact.getGroupId();
+        String repositories = getRepositoriesKey(currentProject.getRemoteArtifactRepositories());
+        long failureTtl = TimeUnit.MINUTES.toMillis(configuration.getMetadataCacheFailureTtl());
+        if (cache != null && failureTtl > 0) {
+            String reason = cache.getFailure(
+                    groupId, artifact.getArtifactId(), artifact.getVersion(), repositories, failureTtl);
+            if (reason != null) {
+                throw new ProjectBuildingException(artifact.getId(), reason + " (cached failure)", (Throwable) null);
+            }
+        }
+
+        ProjectMetadata metadata = null;
+        boolean cacheable = false;
+        if (configuration.isLightweightMetadataReader() && !reactorProject) {
+            PomMetadataReader reader = new PomMetadataReader(
+                    repositorySystem, session.getRepositorySession(), currentProject.getRemoteProjectRepositories());
+            metadata = reader.read(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+            cacheable = pomFile != null && pomFile.isFile();
+        }
+
+        if (metadata == null) {
+            MavenProject project;
+            try {
+                project = getMavenProjectFromRepository(session, currentProject, artifact);
+            } catch (ProjectBuildingException e) {
+                if (cache != null && failureTtl > 0) {
+                    cache.putFailure(
+                            groupId, artifact.getArtifactId(), artifact.getVersion(), repositories, e.getMessage());
+                }
+                throw e;
+            }
+            metadata = ProjectMetadata.of(project);
+
+            // only cache what was really read from the local repository, not stub or workspace models
+            cacheable = pomFile != null
+                    && project.getFile() != null
+                    && pomFile.getAbsoluteFile().equals(project.getFile().getAbsoluteFile());
+        }
+
+        if (cache != null && cacheable) {
+            try {
+                String checksum = getLineageChecksum(session.getRepositorySession(), pomFile);
+                if (checksum != null) {
+                    cache.put(
+                            artifact.getGroupId(),
+                            artifact.getArtifactId(),
+                            artifact.getVersion(),
+                            checksum,
+                            configuration.isLightweightMetadataReader(),
+                            metadata);
+                }
+            } catch (IOException e) {
+                // not cached
+            }
+        }
+
+        return metadata;
+    }
+
+    private ProjectMetadata getCachedMetadata(
+            RepositorySystemSession repositorySession,
+            ProjectMetadataCache cache,
+            Artifact artifact,
+            File pomFile,
+            boolean lightweight) {
+        if (!pomFile.isFile()) {
+            return null;
+        }
+
+        try {
+            String checksum = getLineageChecksum(repositorySession, pomFile);
+            if (checksum == null) {
+                return null;
+            }
+            return cache.get(
+                    artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), checksum, lightweight);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private ProjectMetadataCache getMetadataCache(MavenSession session, DependenciesReportConfiguration configuration) {
+        File directory = configuration.getMetadataCacheDirectory();
+        if (directory == null) {
+            directory = new File(
+                    session.getRepositorySession().getLocalRepository().getBasedir(),
+                    ".cache/maven-project-info-reports-plugin/metadata");
+        }
+        return new ProjectMetadataCache(directory);
+    }
+
+    /**
+     * @return the checksum of the POM and of its parents in the local repository, which the cached metadata may inherit
+     * from, or <code>null</code> if a parent is not there.
+     */
+    private String getLineageChecksum(RepositorySystemSession repositorySession, File pomFile) throws IOException {
+        return ProjectMetadataCache.lineageChecksum(
+                pomFile,
+                parent -> getLocalPomFile(
+                        repositorySession, parent.getGroupId(), parent.getArtifactId(), parent.getVersion()));
+    }
+
+    private File getLocalPomFile(RepositorySystemSession repositorySession, Artifact artifact) {
+        return getLocalPomFile(
+                repositorySession, artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+    }
+
+    private File getLocalPomFile(
+            RepositorySystemSession repositorySession, String groupId, String artifactId, String version) {
+        org.eclipse.aether.artifact.Artifact pomArtifact =
+                new DefaultArtifact(groupId, artifactId, null, "pom", version);
+        String path = repositorySession.getLocalRepositoryManager().getPathForLocalArtifact(pomArtifact);
+        return new File(repositorySession.getLocalRepository().getBasedir(), path);
+    }
+
+    private boolean isReactorProject(MavenSession session, Artifact artifact) {
+        String coordinates = artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
+        return ProjectMetadataMemo.of(session.getRepositorySession())
+                .isReactorProject(coordinates, session.getProjects());
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.report.projectinfo.dependencies;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.maven.doxia.sink.Sink;
@@ -27,6 +28,10 @@ import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
 /**
  * A dependency node visitor that serializes visited nodes to a sink writer. It's used to serialize tree in project
  * information report page.
+ * <p>
+ * The visitor keeps a stack with, for each depth of the visited node, whether the node at that depth is the last of
+ * its siblings and the index of the next child of that node, so the indentation of a node is written without looking
+ * it up among its siblings or walking up to its ancestors.
  *
  * @author <a href="mailto:wangyf2010@gmail.com">Simon Wang</a>
  */
@@ -83,6 +88,16 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      */
     private int depth;
 
+    /**
+     * Whether the visited node at each depth, up to the current one, is the last of its siblings.
+     */
+    private boolean[] lastFlags = new boolean[16];
+
+    /**
+     * The index of the next child of the visited node at each depth, up to the current one.
+     */
+    private int[] childCursors = new int[16];
+
     // constructors -----------------------------------------------------------
 
     /**
@@ -103,7 +118,15 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      * {@inheritDoc}
      */
     public boolean visit(DependencyNode node) {
-        indent(node);
+        if (depth == lastFlags.length) {
+            lastFlags = Arrays.copyOf(lastFlags, depth * 2);
+            childCursors = Arrays.copyOf(childCursors, depth * 2);
+        }
+
+        lastFlags[depth] = depth == 0 || isLast(node, childCursors[depth - 1]++);
+        childCursors[depth] = 0;
+
+        indent();
 
         sink.text(node.toNodeString());
         sink.lineBreak();
@@ -125,17 +148,15 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
     // private methods --------------------------------------------------------
 
     /**
-     * Writes the necessary tokens to indent the specified dependency node to this visitor's writer.
-     *
-     * @param node the dependency node to indent
+     * Writes the necessary tokens to indent the currently visited dependency node to this visitor's writer.
      */
-    private void indent(DependencyNode node) {
+    private void indent() {
         for (int i = 1; i < depth; i++) {
-            tokens.fillIndent(isLast(node, i));
+            tokens.fillIndent(lastFlags[i]);
         }
 
         if (depth > 0) {
-            tokens.addNodeIndent(isLast(node));
+            tokens.addNodeIndent(lastFlags[depth]);
         }
     }
 
@@ -143,42 +164,22 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      * Gets whether the specified dependency node is the last of its siblings.
      *
      * @param node the dependency node to check
-     * @return <code>true</code> if the specified dependency node is the last of its last siblings
+     * @param index the index of the node among its siblings, if visited in the order of the tree
+     * @return <code>true</code> if the specified dependency node is the last of its siblings
      */
-    private boolean isLast(DependencyNode node) {
-        // TODO: remove node argument and calculate from visitor calls only
-
+    private static boolean isLast(DependencyNode node, int index) {
         DependencyNode parent = node.getParent();
 
-        boolean last;
-
         if (parent == null) {
-            last = true;
-        } else {
-            List<DependencyNode> siblings = parent.getChildren();
-
-            last = (siblings.indexOf(node) == siblings.size() - 1);
+            return true;
         }
 
-        return last;
-    }
-
-    /**
-     * Gets whether the specified dependency node ancestor is the last of its siblings.
-     *
-     * @param node the dependency node whose ancestor to check
-     * @param ancestorDepth the depth of the ancestor of the specified dependency node to check
-     * @return <code>true</code> if the specified dependency node ancestor is the last of its siblings
-     */
-    private boolean isLast(DependencyNode node, int ancestorDepth) {
-        // TODO: remove node argument and calculate from visitor calls only
-
-        int distance = depth - ancestorDepth;
-
-        while (distance-- > 0) {
-            node = node.getParent();
+        List<DependencyNode> siblings = parent.getChildren();
+        if (index >= siblings.size() || siblings.get(index) != node) {
+            // not visited in the order of the tree, like with a filtering visitor
+            index = siblings.indexOf(node);
         }
 
-        return isLast(node);
+        return index == siblings.size() - 1;
     }
 }
@@ -29,7 +29,6 @@ import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -48,23 +47,21 @@ import org.apache.maven.doxia.sink.SinkEventAttributes;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.model.License;
 import org.apache.maven.plugin.logging.Log;
-import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
 import org.apache.maven.report.projectinfo.LicenseMapping;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.JarSummary;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadata;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer.TotalCell.SummaryTableRowOrder;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.jar.JarData;
-import org.apache.maven.shared.jar.classes.JarClasses;
-import org.apache.maven.shared.jar.classes.JarVersionedRuntime;
-import org.apache.maven.shared.jar.classes.JarVersionedRuntimes;
 import org.codehaus.plexus.i18n.I18N;
 import org.codehaus.plexus.util.StringUtils;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 
 /**
  * Renderer the dependencies report.
@@ -80,7 +77,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
     /** URL for the 'close.gif' image */
     private static final String IMG_CLOSE_URL = "./images/close.gif";
 
-    private static final Set<String> JAR_SUBTYPE;
+    static final Set<String> JAR_SUBTYPE;
 
     private final DependencyNode dependencyNode;
 
@@ -218,31 +215,28 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
     /**
      * @param withClassifier <code>true</code> to include the classifier column, <code>false</code> otherwise.
      * @param withOptional <code>true</code> to include the optional column, <code>false</code> otherwise.
-     * @return the dependency table header with/without classifier/optional column
-     * @see #renderArtifactRow(Artifact, boolean, boolean)
+     * @param withIntroducedVia <code>true</code> to include the introduced via column, <code>false</code> otherwise.
+     * @return the dependency table header with/without classifier/optional/introduced via column
+     * @see #renderArtifactRow(Artifact, boolean, boolean, boolean)
      */
-    private String[] getDependencyTableHeader(boolean withClassifier, boolean withOptional) {
-        String groupId = getI18nString("column.groupId");
-        String artifactId = getI18nString("column.artifactId");
-        String version = getI18nString("column.version");
-        String classifier = getI18nString("column.classifier");
-        String type = getI18nString("column.type");
-        String license = getI18nString("column.licenses");
-        String optional = getI18nString("column.optional");
-
+    private String[] getDependencyTableHeader(boolean withClassifier, boolean withOptional, boolean withIntroducedVia) {
+        List<String> header = new ArrayList<>();
+        header.add(getI18nString("column.groupId"));
+        header.add(getI18nString("column.artifactId"));
+        header.add(getI18nString("column.version"));
         if (withClassifier) {
-            if (withOptional) {
-                return new String[] {groupId, artifactId, version, classifier, type, license, optional};
-            }
-
-            return new String[] {groupId, artifactId, version, classifier, type, license};
+            header.add(getI18nString("column.classifier"));
+        }
+        header.add(getI18nString("column.type"));
+        header.add(getI18nString("column.licenses"));
+        if (withIntroducedVia) {
+            header.add(getI18nString("column.introducedVia"));
         }
-
         if (withOptional) {
-            return new String[] {groupId, artifactId, version, type, license, optional};
+            header.add(getI18nString("column.optional"));
         }
 
-        return new String[] {groupId, artifactId, version, type, license};
+        return header.toArray(new String[0]);
     }
 
     private void renderSectionProjectDependencies() {
@@ -343,6 +337,14 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         resolveAtrifacts(alldeps);
 
+        dependencies.prefetchJarSummaries(getJarArtifacts(alldeps), configuration.getJarAnalysisThreads());
+
+        renderDependencyFileDetails(DependencyFileDetails.compute(dependencies, alldeps, log));
+
+        endSection();
+    }
+
+    private void renderDependencyFileDetails(DependencyFileDetails details) {
         // i18n
         String filename = getI18nString("file.details.column.file");
         String size = getI18nString("file.details.column.size");
@@ -371,17 +373,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         startTable(justification, false);
 
-        TotalCell totaldeps = new TotalCell();
-        TotalCell totaldepsize = new TotalCell(fileLengthDecimalFormat);
-        TotalCell totalentries = new TotalCell();
-        TotalCell totalclasses = new TotalCell();
-        TotalCell totalpackages = new TotalCell();
-        double highestTestJavaVersion = 0.0;
-        double highestNonTestJavaVersion = 0.0;
-        TotalCell totalDebugInformation = new TotalCell();
-        TotalCell totalsealed = new TotalCell();
-
-        boolean hasSealed = hasSealed(alldeps);
+        boolean hasSealed = details.hasSealed();
 
         // Table header
         String[] tableHeader;
@@ -397,141 +389,86 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         tableHeader(tableHeader, tableHeaderTitles);
 
         // Table rows
-        for (Artifact artifact : alldeps) {
-            if (artifact.getFile() == null) {
-                log.warn("Artifact " + artifact.getId() + " has no file"
-                        + " and won't be listed in dependency files details.");
-                continue;
-            }
-            if (SummaryTableRowOrder.fromScope(artifact.getScope()) == null) {
-                log.warn("Artifact " + artifact.getId() + " has invalid scope"
-                        + " and won't be listed in dependency files details.");
-                continue;
-            }
-
-            File artifactFile = dependencies.getFile(artifact);
-
-            totaldeps.incrementTotal(artifact.getScope());
-            totaldepsize.addTotal(artifactFile.length(), artifact.getScope());
-
-            if (JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
-                try {
-                    JarData jarData = dependencies.getJarDependencyDetails(artifact);
-
-                    totalentries.addTotal(jarData.getNumEntries(), artifact.getScope());
-                    totalclasses.addTotal(jarData.getNumClasses(), artifact.getScope());
-                    totalpackages.addTotal(jarData.getNumPackages(), artifact.getScope());
-
-                    String jdkRevisionCellValue = jarData.getJdkRevision();
-                    String debugInformationCellValue = null;
-                    String sealedCellValue = null;
-
-                    if (jdkRevisionCellValue != null) {
-                        try {
-                            double jdkRevision = Double.parseDouble(jdkRevisionCellValue);
-                            boolean isTestScope = Artifact.SCOPE_TEST.equalsIgnoreCase(artifact.getScope());
-                            if (isTestScope) {
-                                highestTestJavaVersion = Math.max(highestTestJavaVersion, jdkRevision);
-                            } else {
-                                highestNonTestJavaVersion = Math.max(highestNonTestJavaVersion, jdkRevision);
-                            }
-                        } catch (NumberFormatException e) {
-                            // ignore
-                        }
-
-                        debugInformationCellValue = debugInformationCellNo;
-                        if (jarData.isDebugPresent()) {
-                            debugInformationCellValue = debugInformationCellYes;
-                            totalDebugInformation.incrementTotal(artifact.getScope());
-                        }
+        for (DependencyFileDetails.Row row : details.getRows()) {
+            File artifactFile = row.getFile();
+            JarSummary jarData = row.getSummary();
 
-                        sealedCellValue = sealedCellNo;
-                        if (jarData.isSealed()) {
-                            sealedCellValue = sealedCellYes;
-                            totalsealed.incrementTotal(artifact.getScope());
-                        }
-                    }
+            if (row.getFailure() != null) {
+                createExceptionInfoTableRow(row.getArtifact(), artifactFile, row.getFailure(), hasSealed);
+            } else if (jarData == null) {
+                tableRow(hasSealed, new String[] {
+                    row.getName(), fileLengthDecimalFormat.format(artifactFile.length()), "", "", "", "", "", ""
+                });
+            } else {
+                String jdkRevisionCellValue = jarData.getJdkRevision();
+                String debugInformationCellValue = null;
+                String sealedCellValue = null;
+
+                if (jdkRevisionCellValue != null) {
+                    debugInformationCellValue =
+                            jarData.isDebugPresent() ? debugInformationCellYes : debugInformationCellNo;
+                    sealedCellValue = jarData.isSealed() ? sealedCellYes : sealedCellNo;
+                }
 
-                    String name = artifactFile.getName();
-                    String fileLength = fileLengthDecimalFormat.format(artifactFile.length());
+                String fileLength =
+                        artifactFile.isDirectory() ? "-" : fileLengthDecimalFormat.format(artifactFile.length());
 
-                    if (artifactFile.isDirectory()) {
-                        File parent = artifactFile.getParentFile();
-                        name = parent.getParentFile().getName() + '/' + parent.getName() + '/' + artifactFile.getName();
-                        fileLength = "-";
-                    }
+                if (jarData.isMultiRelease()) {
+                    String htmlBullet = "&#160;&#160;&#160;&#x2022; ";
+                    String rootTag = htmlBullet + getI18nString("file.details.multirelease.root");
+                    String versionedTag = htmlBullet + getI18nString("file.details.multirelease.versioned");
 
-                    if (jarData.isMultiRelease()) {
-                        String htmlBullet = "&#160;&#160;&#160;&#x2022; ";
-                        String rootTag = htmlBullet + getI18nString("file.details.multirelease.root");
-                        String versionedTag = htmlBullet + getI18nString("file.details.multirelease.versioned");
+                    // general jar information row
+                    tableRow(hasSealed, new String[] {
+                        row.getName(),
+                        fileLength,
+                        String.valueOf(jarData.getNumEntries()),
+                        "",
+                        "",
+                        "",
+                        "",
+                        sealedCellValue
+                    });
 
-                        // general jar information row
-                        tableRow(hasSealed, new String[] {
-                            name, fileLength, String.valueOf(jarData.getNumEntries()), "", "", "", "", sealedCellValue
-                        });
+                    // root content information row
+                    tableRow(hasSealed, new String[] {
+                        rootTag,
+                        "",
+                        String.valueOf(jarData.getNumRootEntries()),
+                        String.valueOf(jarData.getNumClasses()),
+                        String.valueOf(jarData.getNumPackages()),
+                        jdkRevisionCellValue,
+                        debugInformationCellValue,
+                        ""
+                    });
 
-                        JarVersionedRuntimes versionedRuntimes = jarData.getVersionedRuntimes();
-                        Collection<JarVersionedRuntime> versionedRuntimeList =
-                                versionedRuntimes.getVersionedRuntimeMap().values();
+                    for (JarSummary.VersionedRuntime versionedRuntime : jarData.getVersionedRuntimes()) {
+                        debugInformationCellValue =
+                                versionedRuntime.isDebugPresent() ? debugInformationCellYes : debugInformationCellNo;
 
-                        // root content information row
                         tableRow(hasSealed, new String[] {
-                            rootTag,
+                            versionedTag,
                             "",
-                            String.valueOf(jarData.getNumRootEntries()),
-                            String.valueOf(jarData.getNumClasses()),
-                            String.valueOf(jarData.getNumPackages()),
-                            jdkRevisionCellValue,
+                            String.valueOf(versionedRuntime.getNumEntries()),
+                            String.valueOf(versionedRuntime.getNumClasses()),
+                            String.valueOf(versionedRuntime.getNumPackages()),
+                            versionedRuntime.getJdkRevision(),
                             debugInformationCellValue,
                             ""
                         });
-
-                        for (JarVersionedRuntime versionedRuntime : versionedRuntimeList) {
-                            JarClasses versionedJarClasses = versionedRuntime.getJarClasses();
-
-                            debugInformationCellValue = versionedJarClasses.isDebugPresent()
-                                    ? debugInformationCellYes
-                                    : debugInformationCellNo;
-
-                            tableRow(hasSealed, new String[] {
-                                versionedTag,
-                                "",
-                                String.valueOf(versionedRuntime.getNumEntries()),
-                                String.valueOf(
-                                        versionedJarClasses.getClassNames().size()),
-                                String.valueOf(versionedJarClasses.getPackages().size()),
-                                versionedJarClasses.getJdkRevision(),
-                                debugInformationCellValue,
-                                ""
-                            });
-                        }
-                    } else {
-                        tableRow(hasSealed, new String[] {
-                            name,
-                            fileLength,
-                            String.valueOf(jarData.getNumEntries()),
-                            String.valueOf(jarData.getNumClasses()),
-                            String.valueOf(jarData.getNumPackages()),
-                            jdkRevisionCellValue,
-                            debugInformationCellValue,
-                            sealedCellValue
-                        });
                     }
-                } catch (IOException e) {
-                    createExceptionInfoTableRow(artifact, artifactFile, e, hasSealed);
+                } else {
+                    tableRow(hasSealed, new String[] {
+                        row.getName(),
+                        fileLength,
+                        String.valueOf(jarData.getNumEntries()),
+                        String.valueOf(jarData.getNumClasses()),
+                        String.valueOf(jarData.getNumPackages()),
+                        jdkRevisionCellValue,
+                        debugInformationCellValue,
+                        sealedCellValue
+                    });
                 }
-            } else {
-                tableRow(hasSealed, new String[] {
-                    artifactFile.getName(),
-                    fileLengthDecimalFormat.format(artifactFile.length()),
-                    "",
-                    "",
-                    "",
-                    "",
-                    "",
-                    ""
-                });
             }
         }
 
@@ -542,6 +479,18 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         justification[0] = Sink.JUSTIFY_RIGHT;
         justification[6] = Sink.JUSTIFY_RIGHT;
 
+        // one cell per total column, in display order around the Java version
+        TotalCell[] totalCells = {
+            new TotalCell(details.getTotalDependencies(), null),
+            new TotalCell(details.getTotalSize(), fileLengthDecimalFormat),
+            new TotalCell(details.getTotalEntries(), null),
+            new TotalCell(details.getTotalClasses(), null),
+            new TotalCell(details.getTotalPackages(), null),
+            new TotalCell(details.getTotalDebugInformation(), null),
+            new TotalCell(details.getTotalSealed(), null)
+        };
+        TotalCell totaldeps = totalCells[0];
+
         // calculate rowspan attr
         int rowspan = computeRowspan(totaldeps);
 
@@ -560,39 +509,38 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                             ? justification[column + 1]
                             : Sink.JUSTIFY_CENTER;
                     tableRowWithRowspan(
-                            hasSealed, insertRowspanAttr, alreadyInsertedRowspanAttr, column, rowspan, new String[] {
-                                totaldeps.getTotalString(currentRow),
-                                totaldepsize.getTotalString(currentRow),
-                                totalentries.getTotalString(currentRow),
-                                totalclasses.getTotalString(currentRow),
-                                totalpackages.getTotalString(currentRow),
-                                currentRow.formatMaxJavaVersionForScope(
-                                        javaVersionFormat, highestTestJavaVersion, highestNonTestJavaVersion),
-                                totalDebugInformation.getTotalString(currentRow),
-                                totalsealed.getTotalString(currentRow)
-                            });
+                            hasSealed,
+                            insertRowspanAttr,
+                            alreadyInsertedRowspanAttr,
+                            column,
+                            rowspan,
+                            getTotalRow(totalCells, details, currentRow));
                 }
             }
         } else {
             for (SummaryTableRowOrder currentRow : SummaryTableRowOrder.values()) {
                 if (currentRow.getTotal(totaldeps) > 0) {
-                    tableRow(hasSealed, new String[] {
-                        totaldeps.getTotalString(currentRow),
-                        totaldepsize.getTotalString(currentRow),
-                        totalentries.getTotalString(currentRow),
-                        totalclasses.getTotalString(currentRow),
-                        totalpackages.getTotalString(currentRow),
-                        currentRow.formatMaxJavaVersionForScope(
-                                javaVersionFormat, highestTestJavaVersion, highestNonTestJavaVersion),
-                        totalDebugInformation.getTotalString(currentRow),
-                        totalsealed.getTotalString(currentRow)
-                    });
+                    tableRow(hasSealed, getTotalRow(totalCells, details, currentRow));
                 }
             }
         }
 
         endTable();
-        endSection();
+    }
+
+    private String[] getTotalRow(
+            TotalCell[] totalCells, DependencyFileDetails details, SummaryTableRowOrder currentRow) {
+        return new String[] {
+            totalCells[0].getTotalString(currentRow),
+            totalCells[1].getTotalString(currentRow),
+            totalCells[2].getTotalString(currentRow),
+            totalCells[3].getTotalString(currentRow),
+            totalCells[4].getTotalString(currentRow),
+            currentRow.formatMaxJavaVersionForScope(
+                    javaVersionFormat, details.getHighestTestJavaVersion(), details.getHighestNonTestJavaVersion()),
+            totalCells[5].getTotalString(currentRow),
+            totalCells[6].getTotalString(currentRow)
+        };
     }
 
     private int computeRowspan(TotalCell totaldeps) {
@@ -677,10 +625,11 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         sink.tableRow_();
     }
 
-    private void createExceptionInfoTableRow(Artifact artifact, File artifactFile, Exception e, boolean hasSealed) {
+    private void createExceptionInfoTableRow(
+            Artifact artifact, File artifactFile, String message, boolean hasSealed) {
         tableRow(
                 hasSealed,
-                new String[] {artifact.getId(), artifactFile.getAbsolutePath(), e.getMessage(), "", "", "", "", ""});
+                new String[] {artifact.getId(), artifactFile.getAbsolutePath(), message, "", "", "", "", ""});
     }
 
     private void renderSectionDependencyLicenseListing() {
@@ -693,7 +642,8 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         if (artifacts != null) {
             boolean withClassifier = hasClassifier(artifacts);
             boolean withOptional = hasOptional(artifacts);
-            String[] tableHeader = getDependencyTableHeader(withClassifier, withOptional);
+            boolean withIntroducedVia = isTransitive && configuration.isIntroducedViaEnabled();
+            String[] tableHeader = getDependencyTableHeader(withClassifier, withOptional, withIntroducedVia);
 
             // can't use straight artifact comparison because we want optional last
             Collections.sort(artifacts, getArtifactComparator());
@@ -708,7 +658,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             startTable();
             tableHeader(tableHeader);
             for (Artifact artifact : artifacts) {
-                renderArtifactRow(artifact, withClassifier, withOptional);
+                renderArtifactRow(artifact, withClassifier, withOptional, withIntroducedVia);
             }
             endTable();
 
@@ -735,16 +685,18 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
      * @param artifact not null
      * @param withClassifier <code>true</code> to include the classifier column, <code>false</code> otherwise.
      * @param withOptional <code>true</code> to include the optional column, <code>false</code> otherwise.
-     * @see #getDependencyTableHeader(boolean, boolean)
+     * @param withIntroducedVia <code>true</code> to include the introduced via column, <code>false</code> otherwise.
+     * @see #getDependencyTableHeader(boolean, boolean, boolean)
      */
-    private void renderArtifactRow(Artifact artifact, boolean withClassifier, boolean withOptional) {
+    private void renderArtifactRow(
+            Artifact artifact, boolean withClassifier, boolean withOptional, boolean withIntroducedVia) {
         String isOptional =
                 artifact.isOptional() ? getI18nString("column.isOptional") : getI18nString("column.isNotOptional");
 
-        MavenProject artifactProject = null;
+        ProjectMetadata artifactProject = null;
         StringBuilder sb = new StringBuilder();
         try {
-            artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+            artifactProject = repoUtils.getProjectMetadata(artifact, configuration);
 
             List<License> licenses = artifactProject.getLicenses();
             for (License license : licenses) {
@@ -755,40 +707,43 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                 sb.append(ProjectInfoReportUtils.getArtifactIdCell(name, license.getUrl()));
             }
         } catch (ProjectBuildingException e) {
-            if (log.isDebugEnabled()) {
-                log.debug("Unable to create Maven project from repository for artifact '" + artifact.getId() + "'", e);
-            } else {
-                log.info("Unable to create Maven project from repository for artifact '" + artifact.getId()
-                        + "', for more information run with -X");
-            }
+            // reported once by the report, with all other failures
+            log.debug("Unable to create Maven project from repository for artifact '" + artifact.getId() + "'", e);
         }
 
         String url = ProjectInfoReportUtils.getProjectUrl(artifactProject);
         String artifactIdCell = ProjectInfoReportUtils.getArtifactIdCell(artifact.getArtifactId(), url);
 
-        String[] content;
+        List<String> content = new ArrayList<>();
+        content.add(artifact.getGroupId());
+        content.add(artifactIdCell);
+        content.add(artifact.getVersion());
         if (withClassifier) {
-            content = new String[] {
-                artifact.getGroupId(),
-                artifactIdCell,
-                artifact.getVersion(),
-                artifact.getClassifier(),
-                artifact.getType(),
-                sb.toString(),
-                isOptional
-            };
-        } else {
-            content = new String[] {
-                artifact.getGroupId(),
-                artifactIdCell,
-                artifact.getVersion(),
-                artifact.getType(),
-                sb.toString(),
-                isOptional
-            };
+            content.add(artifact.getClassifier());
+        }
+        content.add(artifact.getType());
+        content.add(sb.toString());
+        if (withIntroducedVia) {
+            content.add(getIntroducedViaCell(artifact));
         }
+        content.add(isOptional);
 
-        tableRow(withOptional, content);
+        tableRow(withOptional, content.toArray(new String[0]));
+    }
+
+    /**
+     * @param artifact a transitive dependency
+     * @return the artifacts through which it is introduced, on the shortest path from the project
+     */
+    private String getIntroducedViaCell(Artifact artifact) {
+        StringBuilder sb = new StringBuilder();
+        for (Artifact introducing : dependencies.getIntroducedVia(artifact)) {
+            if (sb.length() > 0) {
+                sb.append(" > ");
+            }
+            sb.append(introducing.getArtifactId()).append(':').append(introducing.getVersion());
+        }
+        return sb.toString();
     }
 
     private void printDependencyListing(DependencyNode node) {
@@ -815,7 +770,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             boolean toBeIncluded = false;
             List<DependencyNode> subList = new ArrayList<>();
             for (DependencyNode dep : node.getChildren()) {
-                if (dependencies.getAllDependencies().contains(dep.getArtifact())) {
+                if (dependencies.containsDependency(dep.getArtifact())) {
                     subList.add(dep);
                     toBeIncluded = true;
                 }
@@ -842,7 +797,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         if (!Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
             try {
-                MavenProject artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+                ProjectMetadata artifactProject = repoUtils.getProjectMetadata(artifact, configuration);
                 String artifactDescription = artifactProject.getDescription();
                 String artifactUrl = artifactProject.getUrl();
                 String artifactName = artifactProject.getName();
@@ -933,14 +888,8 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                 endTable();
             } catch (ProjectBuildingException e) {
                 sink.text(getI18nString("index", "nodescription"));
-                if (log.isDebugEnabled()) {
-                    log.debug(
-                            "Unable to create Maven project from repository for artifact '" + artifact.getId() + "'",
-                            e);
-                } else {
-                    log.info("Unable to create Maven project from repository for artifact '" + artifact.getId()
-                            + "', for more information run with -X");
-                }
+                log.debug(
+                        "Unable to create Maven project from repository for artifact '" + artifact.getId() + "'", e);
             }
         } else {
             startTable();
@@ -1013,25 +962,30 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
      ** @param artifacts not null
      */
     private void resolveAtrifacts(List<Artifact> artifacts) {
-
+        // the graph builder already sets the file of resolved artifacts, only the others need a resolution
+        List<Artifact> unresolved = new ArrayList<>();
         for (Artifact artifact : artifacts) {
-            // TODO site:run Why do we need to resolve this...
-            if (artifact.getFile() == null) {
-                if (Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
-                    // can not resolve system scope artifact file
-                    continue;
-                }
+            // can not resolve system scope artifact file
+            if (artifact.getFile() == null && !Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
+                unresolved.add(artifact);
+            }
+        }
 
-                try {
-                    repoUtils.resolve(artifact);
-                } catch (ArtifactResolutionException e) {
-                    log.error("Artifact " + artifact.getId() + " can't be resolved.", e);
-                    continue;
-                }
+        List<ArtifactResult> results = null;
+        try {
+            repoUtils.resolve(unresolved);
+        } catch (ArtifactResolutionException e) {
+            results = e.getResults();
+        }
 
-                if (artifact.getFile() == null) {
-                    log.error("Artifact " + artifact.getId() + " has no file, even after resolution.");
-                }
+        for (int i = 0; i < unresolved.size(); i++) {
+            Artifact artifact = unresolved.get(i);
+            if (results != null && !results.get(i).isResolved()) {
+                log.error(
+                        "Artifact " + artifact.getId() + " can't be resolved.",
+                        new ArtifactResolutionException(Collections.singletonList(results.get(i))));
+            } else if (artifact.getFile() == null) {
+                log.error("Artifact " + artifact.getId() + " has no file, even after resolution.");
             }
         }
     }
@@ -1066,23 +1020,18 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
     /**
      * @param artifacts not null
-     * @return <code>true</code> if one artifact in the list is sealed, <code>false</code> otherwise.
+     * @return the artifacts whose file is analyzed in the dependency file details, in the same order.
      */
-    private boolean hasSealed(List<Artifact> artifacts) {
+    private static List<Artifact> getJarArtifacts(List<Artifact> artifacts) {
+        List<Artifact> jarArtifacts = new ArrayList<>();
         for (Artifact artifact : artifacts) {
             if (artifact.getFile() != null
+                    && SummaryTableRowOrder.fromScope(artifact.getScope()) != null
                     && JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
-                try {
-                    JarData jarDetails = dependencies.getJarDependencyDetails(artifact);
-                    if (jarDetails.isSealed()) {
-                        return true;
-                    }
-                } catch (IOException e) {
-                    log.error("Artifact " + artifact.getId() + " caused IOException: " + e.getMessage(), e);
-                }
+                jarArtifacts.add(artifact);
             }
         }
-        return false;
+        return jarArtifacts;
     }
 
     // CHECKSTYLE_OFF: LineLength
@@ -1288,6 +1237,17 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             this.decimalFormat = decimalFormat;
         }
 
+        /**
+         * @param totals the totals, indexed by the ordinal of {@link SummaryTableRowOrder}.
+         * @param decimalFormat the format of the totals, or <code>null</code> to display them as is.
+         */
+        TotalCell(long[] totals, DecimalFormat decimalFormat) {
+            this(decimalFormat);
+            for (SummaryTableRowOrder row : SummaryTableRowOrder.values()) {
+                row.addTotal(this, totals[row.ordinal()]);
+            }
+        }
+
         void incrementTotal(String scope) {
             addTotal(1, scope);
         }
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.report.projectinfo.dependencies.Dependencies;
+import org.apache.maven.report.projectinfo.dependencies.JarSummary;
+import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer.TotalCell.SummaryTableRowOrder;
+
+/**
+ * The content of the dependency file details, computed in one pass over the dependencies: one row per listed
+ * dependency file and the totals by scope. It holds values only, and leaves their formatting to the renderer: each
+ * total is an array indexed by the ordinal of {@link SummaryTableRowOrder}, returned as a copy.
+ *
+ * @since 3.9.1
+ */
+class DependencyFileDetails {
+    private final List<Row> rows;
+
+    private final long[] totalDependencies = newTotals();
+
+    private final long[] totalSize = newTotals();
+
+    private final long[] totalEntries = newTotals();
+
+    private final long[] totalClasses = newTotals();
+
+    private final long[] totalPackages = newTotals();
+
+    private final long[] totalDebugInformation = newTotals();
+
+    private final long[] totalSealed = newTotals();
+
+    private double highestTestJavaVersion;
+
+    private double highestNonTestJavaVersion;
+
+    private boolean aSealed;
+
+    /**
+     * One dependency file.
+     */
+    static class Row {
+        private final Artifact artifact;
+
+        private final File file;
+
+        private final String name;
+
+        private final JarSummary summary;
+
+        private final String failure;
+
+        Row(Artifact artifact, File file, String name, JarSummary summary, String failure) {
+            this.artifact = artifact;
+            this.file = file;
+            this.name = name;
+            this.summary = summary;
+            this.failure = failure;
+        }
+
+        Artifact getArtifact() {
+            return artifact;
+        }
+
+        File getFile() {
+            return file;
+        }
+
+        /**
+         * @return the displayed name of the file, which includes its parent directories for an output directory.
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the summary of the jar, or <code>null</code> if the file is not a jar or could not be analyzed.
+         */
+        JarSummary getSummary() {
+            return summary;
+        }
+
+        /**
+         * @return the message of the analysis failure, or <code>null</code> if the file was analyzed.
+         */
+        String getFailure() {
+            return failure;
+        }
+    }
+
+    private DependencyFileDetails(int size) {
+        this.rows = new ArrayList<>(size);
+    }
+
+    /**
+     * @param dependencies the dependencies, used to analyze the jars.
+     * @param artifacts the artifacts to list, in display order.
+     * @param log the log for the artifacts which are not listed.
+     * @return the file details of the given artifacts.
+     */
+    static DependencyFileDetails compute(Dependencies dependencies, List<Artifact> artifacts, Log log) {
+        DependencyFileDetails details = new DependencyFileDetails(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            if (artifact.getFile() == null) {
+                log.warn("Artifact " + artifact.getId() + " has no file"
+                        + " and won't be listed in dependency files details.");
+                continue;
+            }
+            if (SummaryTableRowOrder.fromScope(artifact.getScope()) == null) {
+                log.warn("Artifact " + artifact.getId() + " has invalid scope"
+                        + " and won't be listed in dependency files details.");
+                continue;
+            }
+
+            details.add(dependencies, artifact, log);
+        }
+        return details;
+    }
+
+    private void add(Dependencies dependencies, Artifact artifact, Log log) {
+        File artifactFile = dependencies.getFile(artifact);
+        String scope = artifact.getScope();
+
+        addTotal(totalDependencies, 1, scope);
+        addTotal(totalSize, artifactFile.length(), scope);
+
+        if (!DependenciesRenderer.JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
+            rows.add(new Row(artifact, artifactFile, artifactFile.getName(), null, null));
+            return;
+        }
+
+        String name = artifactFile.getName();
+        if (artifactFile.isDirectory()) {
+            File parent = artifactFile.getParentFile();
+            name = parent.getParentFile().getName() + '/' + parent.getName() + '/' + artifactFile.getName();
+        }
+
+        JarSummary summary;
+        try {
+            summary = dependencies.getJarSummary(artifact);
+        } catch (IOException e) {
+            log.error("Artifact " + artifact.getId() + " caused IOException: " + e.getMessage(), e);
+            rows.add(new Row(artifact, artifactFile, name, null, e.getMessage()));
+            return;
+        }
+
+        addTotal(totalEntries, summary.getNumEntries(), scope);
+        addTotal(totalClasses, summary.getNumClasses(), scope);
+        addTotal(totalPackages, summary.getNumPackages(), scope);
+
+        if (summary.getJdkRevision() != null) {
+            try {
+                double jdkRevision = Double.parseDouble(summary.getJdkRevision());
+                if (Artifact.SCOPE_TEST.equalsIgnoreCase(scope)) {
+                    highestTestJavaVersion = Math.max(highestTestJavaVersion, jdkRevision);
+                } else {
+                    highestNonTestJavaVersion = Math.max(highestNonTestJavaVersion, jdkRevision);
+                }
+            } catch (NumberFormatException e) {
+                // ignore
+            }
+
+            if (summary.isDebugPresent()) {
+                addTotal(totalDebugInformation, 1, scope);
+            }
+            if (summary.isSealed()) {
+                addTotal(totalSealed, 1, scope);
+            }
+        }
+        aSealed |= summary.isSealed();
+
+        rows.add(new Row(artifact, artifactFile, name, summary, null));
+    }
+
+    private static long[] newTotals() {
+        return new long[SummaryTableRowOrder.values().length];
+    }
+
+    private static void addTotal(long[] totals, long value, String scope) {
+        totals[SummaryTableRowOrder.TOTALS.ordinal()] += value;
+        totals[SummaryTableRowOrder.fromScope(scope).ordinal()] += value;
+    }
+
+    /**
+     * @return the rows, in display order.
+     */
+    List<Row> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * @return <code>true</code> if one of the jars is sealed, <code>false</code> otherwise.
+     */
+    boolean hasSealed() {
+        return aSealed;
+    }
+
+    long[] getTotalDependencies() {
+        return totalDependencies.clone();
+    }
+
+    long[] getTotalSize() {
+        return totalSize.clone();
+    }
+
+    long[] getTotalEntries() {
+        return totalEntries.clone();
+    }
+
+    long[] getTotalClasses() {
+        return totalClasses.clone();
+    }
+
+    long[] getTotalPackages() {
+        return totalPackages.clone();
+    }
+
+    long[] getTotalDebugInformation() {
+        return totalDebugInformation.clone();
+    }
+
+    long[] getTotalSealed() {
+        return totalSealed.clone();
+    }
+
+    double getHighestTestJavaVersion() {
+        return highestTestJavaVersion;
+    }
+
+    double getHighestNonTestJavaVersion() {
+        return highestNonTestJavaVersion;
+    }
+}
@@ -18,9 +18,9 @@
  */
 package org.apache.maven.report.projectinfo.dependencies.renderer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -35,13 +35,15 @@ import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.License;
 import org.apache.maven.plugin.logging.Log;
-import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
 import org.apache.maven.report.projectinfo.LicenseMapping;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
+import org.apache.maven.report.projectinfo.dependencies.AvailableVersions;
+import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
 import org.apache.maven.report.projectinfo.dependencies.ManagementDependencies;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadata;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.repository.RepositorySystem;
 import org.codehaus.plexus.i18n.I18N;
@@ -56,16 +58,16 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
 
     private final Log log;
 
-    private final ArtifactMetadataSource artifactMetadataSource;
-
     private final RepositorySystem repositorySystem;
 
-    private final ProjectBuildingRequest buildingRequest;
-
     private final RepositoryUtils repoUtils;
 
+    private final DependenciesReportConfiguration configuration;
+
     private final Map<String, String> licenseMappings;
 
+    private final AvailableVersions availableVersions;
+
     /**
      * Default constructor
      *
@@ -78,6 +80,7 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
      * @param repositorySystem {@link RepositorySystem}
      * @param buildingRequest {@link ProjectBuildingRequest}
      * @param repoUtils {@link RepositoryUtils}
+     * @param config {@link DependenciesReportConfiguration}
      * @param licenseMappings {@link LicenseMapping}
      */
     public DependencyManagementRenderer(
@@ -90,16 +93,17 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
             RepositorySystem repositorySystem,
             ProjectBuildingRequest buildingRequest,
             RepositoryUtils repoUtils,
+            DependenciesReportConfiguration config,
             Map<String, String> licenseMappings) {
         super(sink, i18n, locale);
 
         this.log = log;
         this.dependencies = dependencies;
-        this.artifactMetadataSource = artifactMetadataSource;
         this.repositorySystem = repositorySystem;
-        this.buildingRequest = buildingRequest;
         this.repoUtils = repoUtils;
+        this.configuration = config;
         this.licenseMappings = licenseMappings;
+        this.availableVersions = new AvailableVersions(artifactMetadataSource, buildingRequest);
     }
 
     // ----------------------------------------------------------------------
@@ -139,6 +143,15 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
         // collect dependencies by scope
         Map<String, List<Dependency>> dependenciesByScope = dependencies.getManagementDependenciesByScope();
 
+        // resolve all version ranges before the tables are rendered
+        List<Artifact> artifacts = new ArrayList<>();
+        for (List<Dependency> scopeDependencies : dependenciesByScope.values()) {
+            for (Dependency dependency : scopeDependencies) {
+                artifacts.add(createArtifact(dependency));
+            }
+        }
+        availableVersions.prefetch(artifacts, configuration.getMetadataThreads());
+
         renderDependenciesForAllScopes(dependenciesByScope);
 
         endSection();
@@ -197,15 +210,17 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private String[] getDependencyRow(Dependency dependency, boolean hasClassifier) {
-
-        Artifact artifact = repositorySystem.createArtifact(
+    private Artifact createArtifact(Dependency dependency) {
+        return repositorySystem.createArtifact(
                 dependency.getGroupId(),
                 dependency.getArtifactId(),
                 dependency.getVersion(),
                 dependency.getScope(),
                 dependency.getType());
+    }
+
+    private String[] getDependencyRow(Dependency dependency, boolean hasClassifier) {
+        Artifact artifact = createArtifact(dependency);
 
         StringBuilder licensesBuffer = new StringBuilder();
         String url = null;
@@ -216,26 +231,15 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
                 // MPIR-216: no direct version but version range: need to choose one precise version
                 log.debug("Resolving range for DependencyManagement on " + artifact.getId());
 
-                List<ArtifactVersion> versions = artifactMetadataSource.retrieveAvailableVersions(
-                        artifact, buildingRequest.getLocalRepository(), buildingRequest.getRemoteRepositories());
-
-                // only use versions from range
-                for (Iterator<ArtifactVersion> iter = versions.iterator(); iter.hasNext(); ) {
-                    if (!range.containsVersion(iter.next())) {
-                        iter.remove();
-                    }
-                }
-
-                // select latest, assuming pom information will be the most accurate
-                if (!versions.isEmpty()) {
-                    ArtifactVersion maxArtifactVersion = Collections.max(versions);
-
+                // select latest from range, assuming pom information will be the most accurate
+                ArtifactVersion maxArtifactVersion = availableVersions.getLatest(artifact, range);
+                if (maxArtifactVersion != null) {
                     artifact.setVersion(maxArtifactVersion.toString());
                     log.debug("DependencyManagement resolved: " + artifact.getId());
                 }
             }
 
-            MavenProject artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+            ProjectMetadata artifactProject = repoUtils.getProjectMetadata(artifact, configuration);
             url = ProjectInfoReportUtils.getProjectUrl(artifactProject);
 
             List<License> licenses = artifactProject.getLicenses();
@@ -255,11 +259,8 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
         } catch (ArtifactMetadataRetrievalException e) {
             log.warn("Unable to retrieve versions for " + artifact.getId() + " from repository.", e);
         } catch (ProjectBuildingException e) {
-            if (log.isDebugEnabled()) {
-                log.warn("Unable to create Maven project for " + artifact.getId() + " from repository.", e);
-            } else {
-                log.warn("Unable to create Maven project for " + artifact.getId() + " from repository.");
-            }
+            // reported once by the report, with all other failures
+            log.debug("Unable to create Maven project for " + artifact.getId() + " from repository.", e);
         }
 
         String artifactIdCell = ProjectInfoReportUtils.getArtifactIdCell(artifact.getArtifactId(), url);
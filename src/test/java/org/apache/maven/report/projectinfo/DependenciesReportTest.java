@@ -20,7 +20,12 @@ package org.apache.maven.report.projectinfo;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.meterware.httpunit.GetMethodWebRequest;
 import com.meterware.httpunit.TextBlock;
@@ -31,14 +36,21 @@ import com.meterware.httpunit.WebTable;
 import org.apache.maven.api.plugin.testing.Basedir;
 import org.apache.maven.api.plugin.testing.InjectMojo;
 import org.apache.maven.api.plugin.testing.MojoTest;
+import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.dependencies.ProjectMetadataCache;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.apache.maven.api.plugin.testing.MojoExtension.getTestFile;
+import static org.apache.maven.api.plugin.testing.MojoExtension.setVariableValueToObject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
@@ -61,6 +73,12 @@ class DependenciesReportTest extends AbstractProjectInfoTest {
      */
     private static final WebConversation WEB_CONVERSATION = new WebConversation();
 
+    /**
+     * Key of the project metadata memo in the repository session data, cleared to render again from scratch.
+     */
+    private static final String METADATA_MEMO_KEY =
+            "org.apache.maven.report.projectinfo.dependencies.ProjectMetadataMemo";
+
     @BeforeEach
     void setup() throws Exception {
         DefaultProjectBuildingRequest pbr = spy(new DefaultProjectBuildingRequest());
@@ -104,6 +122,8 @@ class DependenciesReportTest extends AbstractProjectInfoTest {
         assertEquals(5, webTables[0].getColumnCount());
         assertEquals(
                 webTables[0].getRowCount(), 1 + mavenProject.getDependencies().size());
+        // no introduced via column by default
+        assertEquals(5, webTables[1].getColumnCount());
 
         // Test the texts
         TextBlock[] textBlocks = response.getTextBlocks();
@@ -118,4 +138,94 @@ class DependenciesReportTest extends AbstractProjectInfoTest {
         assertEquals(getString("report.dependencies.graph.tree.title"), textBlocks[9].getText());
         assertEquals(getString("report.dependencies.graph.tables.licenses"), textBlocks[10].getText());
     }
+
+    @Test
+    @InjectMojo(goal = "dependencies", pom = "dependencies-plugin-config.xml")
+    void introducedViaColumn(DependenciesReport mojo) throws Exception {
+        setVariableValueToObject(mojo, "introducedViaEnabled", true);
+        setVariableValueToObject(mojo, "outputDirectory", getTestFile("target/dependencies-introduced-via"));
+        mojo.execute();
+
+        URL reportURL = getTestFile("target/dependencies-introduced-via/dependencies.html")
+                .toURI()
+                .toURL();
+        WebResponse response = WEB_CONVERSATION.getResponse(new GetMethodWebRequest(reportURL.toString()));
+        WebTable[] webTables = response.getTables();
+
+        // only the transitive dependencies are introduced via other ones
+        assertEquals(5, webTables[0].getColumnCount());
+        assertEquals(6, webTables[1].getColumnCount());
+        assertEquals(getString("report.dependencies.column.introducedVia"), webTables[1].getCellAsText(0, 5));
+        assertEquals("junit-jupiter-api:5.14.2", webTables[1].getCellAsText(1, 5));
+    }
+
+    @Test
+    @InjectMojo(goal = "dependencies", pom = "dependencies-plugin-config.xml")
+    void concurrentMetadataPrefetch(DependenciesReport mojo) throws Exception {
+        setVariableValueToObject(mojo, "metadataCacheFailureTtl", 60);
+
+        List<String> serialWarnings = new ArrayList<>();
+        String serial = renderWithMetadataThreads(mojo, 1, "serial", serialWarnings);
+        List<String> concurrentWarnings = new ArrayList<>();
+        String concurrent = renderWithMetadataThreads(mojo, 4, "concurrent", concurrentWarnings);
+
+        assertEquals(serial, concurrent);
+        assertEquals(serialWarnings, concurrentWarnings);
+        // the failed artifact is reported once, and listed without its project metadata
+        assertEquals(1, serialWarnings.size());
+        assertTrue(serialWarnings.get(0).contains("org.opentest4j:opentest4j:1.3.0: Unavailable (cached failure)"));
+        assertTrue(serial.contains("<td>opentest4j</td>"));
+    }
+
+    @Test
+    @InjectMojo(goal = "dependencies", pom = "dependencies-plugin-config.xml")
+    void unsupportedMetadataReader(DependenciesReport mojo) throws Exception {
+        setVariableValueToObject(mojo, "metadataReader", "Lightweight");
+
+        MojoExecutionException e = assertThrows(MojoExecutionException.class, mojo::execute);
+        assertTrue(e.getCause().getMessage().contains("Unsupported metadata reader: Lightweight"));
+    }
+
+    @Test
+    @InjectMojo(goal = "dependencies", pom = "dependencies-plugin-config.xml")
+    void unsupportedJarAnalysis(DependenciesReport mojo) throws Exception {
+        setVariableValueToObject(mojo, "jarAnalysis", "light");
+
+        MojoExecutionException e = assertThrows(MojoExecutionException.class, mojo::execute);
+        assertTrue(e.getCause().getMessage().contains("Unsupported jar analysis: light"));
+    }
+
+    /**
+     * Render the report in a fresh metadata memo and cache, where the project of one dependency fails to build.
+     *
+     * @return the rendered report, without the generated ids and the publication date
+     */
+    private String renderWithMetadataThreads(
+            DependenciesReport mojo, int metadataThreads, String name, List<String> warnings) throws Exception {
+        File cacheDirectory = getTestFile("target/dependencies-metadata-threads/" + name + "-cache");
+        FileUtils.deleteDirectory(cacheDirectory);
+        StringBuilder repositories = new StringBuilder();
+        for (ArtifactRepository repository : mavenProject.getRemoteArtifactRepositories()) {
+            repositories.append(' ').append(repository.getId()).append('=').append(repository.getUrl());
+        }
+        new ProjectMetadataCache(cacheDirectory)
+                .putFailure("org.opentest4j", "opentest4j", "1.3.0", repositories.toString(), "Unavailable");
+
+        mavenSession.getRepositorySession().getData().set(METADATA_MEMO_KEY, null);
+        File outputDirectory = getTestFile("target/dependencies-metadata-threads/" + name);
+        setVariableValueToObject(mojo, "outputDirectory", outputDirectory);
+        setVariableValueToObject(mojo, "metadataCacheDirectory", cacheDirectory);
+        setVariableValueToObject(mojo, "metadataThreads", metadataThreads);
+        mojo.setLog(new SystemStreamLog() {
+            @Override
+            public void warn(CharSequence content) {
+                warnings.add(content.toString());
+            }
+        });
+        mojo.execute();
+
+        String html = new String(
+                Files.readAllBytes(new File(outputDirectory, "dependencies.html").toPath()), StandardCharsets.UTF_8);
+        return html.replaceAll("_(dep|img)\\d+", "").replaceAll("Last Published: [^<]*", "");
+    }
 }
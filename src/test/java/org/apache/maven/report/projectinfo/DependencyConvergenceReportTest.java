@@ -20,8 +20,16 @@ package org.apache.maven.report.projectinfo;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.meterware.httpunit.GetMethodWebRequest;
 import com.meterware.httpunit.TextBlock;
@@ -34,14 +42,24 @@ import org.apache.maven.api.plugin.testing.MojoTest;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.reporting.MavenReportException;
+import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.apache.maven.api.plugin.testing.MojoExtension.getTestFile;
+import static org.apache.maven.api.plugin.testing.MojoExtension.getVariableValueFromObject;
+import static org.apache.maven.api.plugin.testing.MojoExtension.setVariableValueToObject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
@@ -126,4 +144,129 @@ public class DependencyConvergenceReportTest extends AbstractProjectInfoTest {
         TextBlock[] textBlocks = response.getTextBlocks();
         assertEquals(getString("report.dependency-convergence.reactor.name"), textBlocks[1].getText());
     }
+
+    /**
+     * Test the conflict resolution details of the dependency trees of a conflict
+     *
+     * @throws Exception if any
+     */
+    @Test
+    @InjectMojo(goal = "dependency-convergence", pom = "dependency-convergence-conflict-plugin-config.xml")
+    public void testConflict(DependencyConvergenceReport mojo) throws Exception {
+        readMavenProjectModel(mavenProject, "dependency-convergence-conflict-plugin-config.xml");
+        setArtifactForProject(mavenProject);
+
+        mojo.execute();
+        File reportFile = getTestFile("target/dependency-convergence-conflict/dependency-convergence.html");
+        String report = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+
+        assertTrue(report.contains("(org.junit.platform:junit-platform-commons:jar:1.14.4:test"
+                + " - omitted for conflict with 1.12.2)"));
+    }
+
+    /**
+     * Test the concurrent collection of the dependency trees: they are analyzed in reactor order even when the
+     * collection of the first module completes last
+     *
+     * @throws Exception if any
+     */
+    @Test
+    @InjectMojo(goal = "dependency-convergence", pom = "dependency-convergence-conflict-plugin-config.xml")
+    public void testConcurrentCollection(DependencyConvergenceReport mojo) throws Exception {
+        readMavenProjectModel(mavenProject, "dependency-convergence-conflict-plugin-config.xml");
+        setArtifactForProject(mavenProject);
+
+        DependencyCollectorBuilder delegate = getVariableValueFromObject(mojo, "dependencyCollectorBuilder");
+        CountDownLatch moduleCollected = new CountDownLatch(1);
+        List<MavenProject> collected = Collections.synchronizedList(new ArrayList<>());
+        DependencyCollectorBuilder collector = request -> {
+            MavenProject project = request.getBuildingRequest().getProject();
+            if (project == mavenProject) {
+                try {
+                    assertTrue(moduleCollected.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DependencyCollectorBuilderException("interrupted", e);
+                }
+            }
+            DependencyNode tree = delegate.collectDependencyGraph(request);
+            collected.add(project);
+            moduleCollected.countDown();
+            return tree;
+        };
+        setVariableValueToObject(mojo, "dependencyCollectorBuilder", collector);
+        setVariableValueToObject(mojo, "dependencyGraphThreads", 2);
+        setVariableValueToObject(mojo, "outputDirectory", getTestFile("target/dependency-convergence-concurrent"));
+
+        mojo.execute();
+        assertEquals(3, collected.size());
+        assertNotSame(mavenProject, collected.get(0));
+
+        // the conflict is still reported in the tree of the first module
+        File reportFile = getTestFile("target/dependency-convergence-concurrent/dependency-convergence.html");
+        String report = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains("(org.junit.platform:junit-platform-commons:jar:1.14.4:test"
+                + " - omitted for conflict with 1.12.2)"));
+    }
+
+    /**
+     * Test the failure of a concurrent collection of a dependency tree
+     *
+     * @throws Exception if any
+     */
+    @Test
+    @InjectMojo(goal = "dependency-convergence", pom = "dependency-convergence-plugin-config.xml")
+    public void testConcurrentCollectionFailure(DependencyConvergenceReport mojo) throws Exception {
+        DependencyCollectorBuilder delegate = getVariableValueFromObject(mojo, "dependencyCollectorBuilder");
+        DependencyCollectorBuilder collector = request -> {
+            if (request.getBuildingRequest().getProject() != mavenProject) {
+                throw new DependencyCollectorBuilderException("unavailable");
+            }
+            return delegate.collectDependencyGraph(request);
+        };
+        setVariableValueToObject(mojo, "dependencyCollectorBuilder", collector);
+        setVariableValueToObject(mojo, "dependencyGraphThreads", 2);
+        setVariableValueToObject(mojo, "outputDirectory", getTestFile("target/dependency-convergence-failure"));
+
+        MojoExecutionException e = assertThrows(MojoExecutionException.class, mojo::execute);
+        assertTrue(e.getCause() instanceof MavenReportException);
+        assertEquals("Could not build dependency tree: unavailable", e.getCause().getMessage());
+    }
+
+    /**
+     * Test the gate mode
+     *
+     * @throws Exception if any
+     */
+    @Test
+    @InjectMojo(goal = "dependency-convergence", pom = "dependency-convergence-gate-plugin-config.xml")
+    public void testGate(DependencyConvergenceReport mojo) throws Exception {
+        mojo.execute();
+        File resultFile = getTestFile("target/dependency-convergence-gate/dependency-convergence.json");
+        assertTrue(resultFile.isFile());
+
+        String result = new String(Files.readAllBytes(resultFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(result.contains("\"modules\": 3,"));
+        assertTrue(result.contains("\"convergence\": 100,"));
+        assertTrue(result.contains("\"conflicts\": [],"));
+
+        // the report is not rendered in gate mode
+        File reportFile = getTestFile("target/dependency-convergence-gate/dependency-convergence.html");
+        String report = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+        assertFalse(report.contains(getString("report.dependency-convergence.stats.artifacts")));
+    }
+
+    /**
+     * Test the validation of the minimum convergence
+     *
+     * @throws Exception if any
+     */
+    @Test
+    @InjectMojo(goal = "dependency-convergence", pom = "dependency-convergence-gate-plugin-config.xml")
+    public void testInvalidMinimumConvergence(DependencyConvergenceReport mojo) throws Exception {
+        setVariableValueToObject(mojo, "minimumConvergence", 101);
+
+        MojoExecutionException e = assertThrows(MojoExecutionException.class, mojo::execute);
+        assertTrue(e.getCause().getMessage().contains("Invalid minimum dependency convergence: 101 %"));
+    }
 }
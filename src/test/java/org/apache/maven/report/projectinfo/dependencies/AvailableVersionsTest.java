@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailableVersionsTest {
+
+    @Test
+    void versionsAreRetrievedOncePerSession() throws Exception {
+        List<ArtifactVersion> versions = new ArrayList<>();
+        for (String version : Arrays.asList("1.0", "1.5", "2.0")) {
+            versions.add(new DefaultArtifactVersion(version));
+        }
+
+        ArtifactMetadataSource source = mock(ArtifactMetadataSource.class);
+        when(source.retrieveAvailableVersions(any(Artifact.class), any(), anyList()))
+                .thenReturn(versions);
+
+        ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession(new DefaultRepositorySystemSession());
+
+        Artifact artifact = new DefaultArtifact(
+                "org.example", "example", "[1.0,2.0)", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        VersionRange range = VersionRange.createFromVersionSpec("[1.0,2.0)");
+
+        new AvailableVersions(source, buildingRequest).prefetch(Arrays.asList(artifact, artifact), 2);
+        AvailableVersions availableVersions = new AvailableVersions(source, buildingRequest);
+
+        assertEquals("1.5", availableVersions.getLatest(artifact, range).toString());
+        assertEquals(3, availableVersions.get(artifact).size());
+        verify(source, times(1)).retrieveAvailableVersions(any(Artifact.class), any(), anyList());
+
+        // a module with other repositories in the same session
+        ArtifactRepository other = mock(ArtifactRepository.class);
+        when(other.getId()).thenReturn("other");
+        when(other.getUrl()).thenReturn("https://other.example.org");
+        ProjectBuildingRequest otherRequest = new DefaultProjectBuildingRequest(buildingRequest);
+        otherRequest.setRemoteRepositories(Collections.singletonList(other));
+
+        assertEquals(3, new AvailableVersions(source, otherRequest).get(artifact).size());
+        verify(source, times(2)).retrieveAvailableVersions(any(Artifact.class), any(), anyList());
+    }
+}
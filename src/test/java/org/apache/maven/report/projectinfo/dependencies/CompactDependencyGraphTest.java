@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.dependencies.CompactDependencyGraph.Inclusion;
+import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.filter.AncestorOrSelfDependencyNodeFilter;
+import org.apache.maven.shared.dependency.graph.filter.ArtifactDependencyNodeFilter;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.BuildingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.CollectingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.FilteringDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.SerializingDependencyNodeVisitor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactDependencyGraphTest {
+
+    @Test
+    void pathTreeMatchesTwoPassFiltering() {
+        DependencyNode root = node(null, "root", "1.0");
+        DependencyNode a = node(root, "a", "1.0");
+        node(a, "c", "1.0");
+        DependencyNode b = node(root, "b", "1.0");
+        node(b, "c", "2.0");
+        DependencyNode d = node(b, "d", "1.0");
+        node(d, "c", "1.0");
+        node(d, "e", "1.0");
+        node(root, "e", "1.0");
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        int rootId = graph.add(project("root"), root);
+
+        for (String version : new String[] {"1.0", "2.0"}) {
+            assertEquals(
+                    filter(root, "org.example:c:jar:" + version),
+                    serialize(graph.getPathTree(rootId, "org.example", "c", "jar", version)));
+        }
+        assertEquals(
+                filter(root, "org.example:e:jar:1.0"),
+                serialize(graph.getPathTree(rootId, "org.example", "e", "jar", "1.0")));
+        assertEquals(
+                filter(root, "org.example:root:jar:1.0"),
+                serialize(graph.getPathTree(rootId, "org.example", "root", "jar", "1.0")));
+    }
+
+    @Test
+    void pathTreesOfSharedNodesFollowAddedTrees() {
+        DependencyNode root1 = node(null, "root1", "1.0");
+        DependencyNode a = node(root1, "a", "1.0");
+        node(a, "c", "1.0");
+        node(root1, "b", "1.0");
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        int root1Id = graph.add(project("root1"), root1);
+        assertEquals(
+                filter(root1, "org.example:c:jar:1.0"),
+                serialize(graph.getPathTree(root1Id, "org.example", "c", "jar", "1.0")));
+
+        // the subtree of a is shared, and c is found in the second tree too once it is added
+        DependencyNode root2 = node(null, "root2", "1.0");
+        node(root2, "b", "1.0");
+        DependencyNode otherA = node(root2, "a", "1.0");
+        node(otherA, "c", "1.0");
+        int root2Id = graph.add(project("root2"), root2);
+
+        assertEquals(
+                filter(root2, "org.example:c:jar:1.0"),
+                serialize(graph.getPathTree(root2Id, "org.example", "c", "jar", "1.0")));
+        assertEquals(
+                filter(root1, "org.example:c:jar:1.0"),
+                serialize(graph.getPathTree(root1Id, "org.example", "c", "jar", "1.0")));
+        assertNull(graph.getPathTree(root2Id, "org.example", "root1", "jar", "1.0"));
+    }
+
+    @Test
+    void identicalSubtreesAreShared() {
+        DependencyNode root1 = node(null, "root1", "1.0");
+        DependencyNode a = node(root1, "a", "1.0");
+        node(a, "c", "1.0");
+        DependencyNode c = node(root1, "c", "1.0");
+        DependencyNode root2 = node(null, "root2", "1.0");
+        DependencyNode otherA = node(root2, "a", "1.0");
+        node(otherA, "c", "1.0");
+        DependencyNode scopedA = node(root2, "a", "1.0");
+        scopedA.getArtifact().setScope("test");
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        int root1Id = graph.add(project("root1"), root1);
+        int root2Id = graph.add(project("root2"), root2);
+
+        int aId = graph.getChild(root1Id, 0);
+        assertEquals(aId, graph.getChild(root2Id, 0));
+        assertEquals(graph.getChild(aId, 0), graph.getChild(root1Id, 1));
+        assertNotEquals(aId, graph.getChild(root2Id, 1));
+        assertEquals(c.getArtifact(), graph.getArtifact(graph.getChild(root1Id, 1)));
+        assertEquals(0, graph.getChildCount(graph.getChild(root1Id, 1)));
+
+        assertEquals(root1Id, graph.add(project("root1"), root2));
+        assertEquals(root2Id, graph.getRoot(project("root2")));
+        assertEquals(-1, graph.getRoot(project("root3")));
+    }
+
+    @Test
+    void noPathTreeForMissingArtifact() {
+        DependencyNode root = node(null, "root", "1.0");
+        node(root, "a", "1.0");
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        int rootId = graph.add(project("root"), root);
+
+        assertNull(graph.getPathTree(rootId, "org.example", "a", "jar", "2.0"));
+        assertNull(graph.getPathTree(rootId, "org.example", "b", "jar", "1.0"));
+    }
+
+    @Test
+    void inclusionsAreShortestPathsNearestFirst() {
+        DependencyNode root1 = node(null, "root1", "1.0");
+        DependencyNode a = node(root1, "a", "1.0");
+        DependencyNode x = node(a, "x", "1.0");
+        node(x, "c", "1.0");
+        DependencyNode b = node(root1, "b", "1.0");
+        node(b, "c", "2.0");
+        DependencyNode d = node(root1, "d", "1.0");
+        node(d, "c", "3.0");
+        DependencyNode root2 = node(null, "root2", "1.0");
+        DependencyNode otherA = node(root2, "a", "1.0");
+        DependencyNode otherX = node(otherA, "x", "1.0");
+        node(otherX, "c", "1.0");
+        node(root2, "c", "1.0");
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        int root1Id = graph.add(project("root1"), root1);
+        int root2Id = graph.add(project("root2"), root2);
+
+        List<Inclusion> inclusions = graph.getInclusions(root1Id, "org.example", "c");
+        assertEquals(3, inclusions.size());
+        assertEquals("2.0", inclusions.get(0).getVersion());
+        assertEquals(2, inclusions.get(0).getDepth());
+        assertEquals("root1 b c", path(inclusions.get(0)));
+        assertEquals("3.0", inclusions.get(1).getVersion());
+        assertEquals("root1 d c", path(inclusions.get(1)));
+        assertEquals("1.0", inclusions.get(2).getVersion());
+        assertEquals(3, inclusions.get(2).getDepth());
+        assertEquals("root1 a x c", path(inclusions.get(2)));
+
+        // the node of c 1.0 is shared by both trees: its nearest occurrence in root2 is direct
+        inclusions = graph.getInclusions(root2Id, "org.example", "c");
+        assertEquals(1, inclusions.size());
+        assertEquals(1, inclusions.get(0).getDepth());
+        assertEquals("root2 c", path(inclusions.get(0)));
+
+        assertEquals("root1 a", path(graph.getInclusions(root1Id, "org.example", "a").get(0)));
+        assertTrue(graph.getInclusions(root2Id, "org.example", "b").isEmpty());
+        assertTrue(graph.getInclusions(root1Id, "org.example", "missing").isEmpty());
+    }
+
+    private static String path(Inclusion inclusion) {
+        StringBuilder sb = new StringBuilder();
+        for (Artifact artifact : inclusion.getPath()) {
+            sb.append(sb.length() > 0 ? " " : "").append(artifact.getArtifactId());
+        }
+        return sb.toString();
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        return project;
+    }
+
+    private static DependencyNode node(DependencyNode parent, String artifactId, String version) {
+        DefaultDependencyNode node = new DefaultDependencyNode(
+                parent,
+                new DefaultArtifact(
+                        "org.example", artifactId, version, "compile", "jar", null, new DefaultArtifactHandler("jar")),
+                null,
+                null,
+                null);
+        node.setChildren(new ArrayList<>());
+        if (parent != null) {
+            parent.getChildren().add(node);
+        }
+        return node;
+    }
+
+    /**
+     * The filtering done by the dependency convergence report before the compact graph.
+     */
+    private static String filter(DependencyNode root, String key) {
+        StringWriter writer = new StringWriter();
+        DependencyNodeVisitor visitor = new BuildingDependencyNodeVisitor(new SerializingDependencyNodeVisitor(writer));
+
+        CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
+        root.accept(new FilteringDependencyNodeVisitor(
+                collectingVisitor,
+                new ArtifactDependencyNodeFilter(
+                        new StrictPatternIncludesArtifactFilter(Collections.singletonList(key)))));
+        visitor = new FilteringDependencyNodeVisitor(
+                visitor, new AncestorOrSelfDependencyNodeFilter(collectingVisitor.getNodes()));
+
+        root.accept(visitor);
+        return writer.toString();
+    }
+
+    private static String serialize(DependencyNode root) {
+        StringWriter writer = new StringWriter();
+        root.accept(new SerializingDependencyNodeVisitor(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConvergenceRecordTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void roundTrip() {
+        Dependency junit412 = dependency("junit", "junit", "4.12", null, "test");
+        Dependency junit413 = dependency("junit", "junit", "4.13", null, "test");
+        Dependency sources = dependency("org.example", "example", "1.0", "sources", "compile");
+
+        String fingerprint = ConvergenceRecord.fingerprint(Arrays.asList("project g:a:1", "dependency junit"));
+        File file = new File(tempDir, "mpir/dependency-convergence.properties");
+        new ConvergenceRecord(
+                        fingerprint,
+                        Arrays.asList(junit412, sources, junit413),
+                        Collections.singletonList(Arrays.asList(junit412, junit413, junit412)))
+                .write(file);
+
+        ConvergenceRecord record = ConvergenceRecord.read(file);
+        assertEquals(fingerprint, record.getFingerprint());
+        assertEquals(
+                Arrays.asList(
+                        "junit:junit:4.12:null:test",
+                        "org.example:example:1.0:sources:compile",
+                        "junit:junit:4.13:null:test"),
+                toStrings(record.getDependencies()));
+        assertEquals(1, record.getConflicts().size());
+        assertEquals(
+                Arrays.asList("junit:junit:4.12:null:test", "junit:junit:4.13:null:test", "junit:junit:4.12:null:test"),
+                toStrings(record.getConflicts().get(0)));
+    }
+
+    @Test
+    void fingerprintDependsOnInputs() {
+        assertEquals(
+                ConvergenceRecord.fingerprint(Arrays.asList("a", "b")),
+                ConvergenceRecord.fingerprint(Arrays.asList("a", "b")));
+        assertNotEquals(
+                ConvergenceRecord.fingerprint(Arrays.asList("a", "b")),
+                ConvergenceRecord.fingerprint(Collections.singletonList("a\nb ")));
+    }
+
+    @Test
+    void missingOrCorruptedRecordIsIgnored() throws Exception {
+        File file = new File(tempDir, "record.properties");
+        assertNull(ConvergenceRecord.read(file));
+
+        Files.write(file.toPath(), "fingerprint=x\ndependencies=junit:junit\n".getBytes(StandardCharsets.ISO_8859_1));
+        assertNull(ConvergenceRecord.read(file));
+    }
+
+    private static Dependency dependency(
+            String groupId, String artifactId, String version, String classifier, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(groupId);
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setClassifier(classifier);
+        dependency.setScope(scope);
+        return dependency;
+    }
+
+    private static List<String> toStrings(List<Dependency> dependencies) {
+        String[] strings = new String[dependencies.size()];
+        for (int i = 0; i < strings.length; i++) {
+            Dependency dependency = dependencies.get(i);
+            strings[i] = dependency.getGroupId() + ':' + dependency.getArtifactId() + ':' + dependency.getVersion()
+                    + ':' + dependency.getClassifier() + ':' + dependency.getScope();
+        }
+        return Arrays.asList(strings);
+    }
+}
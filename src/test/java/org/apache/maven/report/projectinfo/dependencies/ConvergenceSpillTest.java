@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConvergenceSpillTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void mergeMatchesInMemoryMerge() throws Exception {
+        Random random = new Random(42);
+        List<ConvergenceRecord> records = new ArrayList<>();
+        for (int module = 0; module < 40; module++) {
+            records.add(record(random));
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int module = 0; module < records.size(); module++) {
+            order.add(module);
+        }
+        Collections.shuffle(order, random);
+
+        List<String> merged = new ArrayList<>();
+        // one line per run, for more runs than can be merged at once
+        try (ConvergenceSpill spill = new ConvergenceSpill(tempDir, 1)) {
+            for (int module : order) {
+                spill.add(module, records.get(module));
+            }
+            spill.merge(new ConvergenceSpill.Handler() {
+                @Override
+                public void conflict(String key, int module, Dependency dependency) {
+                    merged.add("conflict " + key + " " + module + " " + format(dependency));
+                }
+
+                @Override
+                public void version(String key, int module, Dependency dependency) {
+                    merged.add("version " + key + " " + module + " " + format(dependency));
+                }
+            });
+        }
+
+        assertEquals(inMemoryMerge(records), merged);
+        assertEquals(0, tempDir.list().length);
+    }
+
+    private static List<String> inMemoryMerge(List<ConvergenceRecord> records) {
+        Map<String, List<String>> conflicts = new TreeMap<>();
+        Map<String, Map<String, String>> versions = new TreeMap<>();
+        for (int module = 0; module < records.size(); module++) {
+            ConvergenceRecord record = records.get(module);
+            for (List<Dependency> conflict : record.getConflicts()) {
+                for (Dependency dependency : conflict) {
+                    String key = dependency.getGroupId() + ":" + dependency.getArtifactId();
+                    conflicts
+                            .computeIfAbsent(key, k -> new ArrayList<>())
+                            .add("conflict " + key + " " + module + " " + format(dependency));
+                }
+            }
+            for (Dependency dependency : record.getDependencies()) {
+                String key = dependency.getGroupId() + ":" + dependency.getArtifactId();
+                String line = "version " + key + " " + module + " " + format(dependency);
+                versions.computeIfAbsent(key, k -> new TreeMap<>()).putIfAbsent(dependency.getVersion(), line);
+            }
+        }
+
+        // the conflicts of a dependency come before its versions
+        Map<String, List<String>> byKey = new TreeMap<>(conflicts);
+        for (Map.Entry<String, Map<String, String>> entry : versions.entrySet()) {
+            byKey.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue().values());
+        }
+
+        List<String> merged = new ArrayList<>();
+        for (List<String> lines : byKey.values()) {
+            merged.addAll(lines);
+        }
+        return merged;
+    }
+
+    private static ConvergenceRecord record(Random random) {
+        List<Dependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String artifactId = "lib" + random.nextInt(6);
+            String version = "1." + random.nextInt(3) + (random.nextBoolean() ? "-SNAPSHOT" : "");
+            boolean known = false;
+            for (Dependency dependency : dependencies) {
+                known |= dependency.getArtifactId().equals(artifactId) && dependency.getVersion().equals(version);
+            }
+            if (!known) {
+                dependencies.add(dependency(
+                        artifactId, version, random.nextBoolean() ? "tests" : null, i % 2 == 0 ? "compile" : "test"));
+            }
+        }
+
+        List<List<Dependency>> conflicts = new ArrayList<>();
+        if (random.nextBoolean()) {
+            String artifactId = "lib" + random.nextInt(6);
+            conflicts.add(new ArrayList<>(Collections.singletonList(dependency(artifactId, "2.0", null, "compile"))));
+            conflicts.get(0).add(dependency(artifactId, "1.0", null, "runtime"));
+            conflicts.get(0).add(dependency(artifactId, "2.0", null, "compile"));
+        }
+
+        return new ConvergenceRecord("fingerprint", dependencies, conflicts);
+    }
+
+    private static Dependency dependency(String artifactId, String version, String classifier, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId("org.example");
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setClassifier(classifier);
+        dependency.setScope(scope);
+        return dependency;
+    }
+
+    private static String format(Dependency dependency) {
+        return dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion() + ":"
+                + dependency.getClassifier() + ":" + dependency.getScope();
+    }
+}
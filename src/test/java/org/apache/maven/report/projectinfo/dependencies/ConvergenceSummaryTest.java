@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConvergenceSummaryTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void json() {
+        assertEquals(
+                "{\n"
+                        + "  \"modules\": 2,\n"
+                        + "  \"dependencies\": 3,\n"
+                        + "  \"artifacts\": 5,\n"
+                        + "  \"convergence\": 60,\n"
+                        + "  \"conflicts\": [\n"
+                        + "    {\"dependency\": \"junit:junit\", \"versions\": ["
+                        + "{\"version\": \"4.12\", \"modules\": [\"g:a:jar:1\", \"g:b:jar:1\"]}, "
+                        + "{\"version\": \"4.13\", \"modules\": [\"g:b:jar:1\"]}]},\n"
+                        + "    {\"dependency\": \"org:lib\", \"versions\": ["
+                        + "{\"version\": \"1.0\", \"modules\": [\"g:a:jar:1\"]}, "
+                        + "{\"version\": \"2.\\\"0\", \"modules\": [\"g:b:jar:1\"]}]}\n"
+                        + "  ],\n"
+                        + "  \"snapshots\": [\n"
+                        + "    {\"dependency\": \"org:snap\", \"version\": \"1.0-SNAPSHOT\", \"module\": \"g:a:jar:1\"}\n"
+                        + "  ]\n"
+                        + "}\n",
+                summary().toJson());
+    }
+
+    @Test
+    void emptyJson() {
+        assertEquals(
+                "{\n"
+                        + "  \"modules\": 1,\n"
+                        + "  \"dependencies\": 0,\n"
+                        + "  \"artifacts\": 0,\n"
+                        + "  \"convergence\": 100,\n"
+                        + "  \"conflicts\": [],\n"
+                        + "  \"snapshots\": []\n"
+                        + "}\n",
+                new ConvergenceSummary(1, 0, 0, 100).toJson());
+    }
+
+    @Test
+    void csv() {
+        assertEquals(
+                "type,dependency,version,modules\n"
+                        + "convergence,,60,2\n"
+                        + "conflict,junit:junit,4.12,g:a:jar:1 g:b:jar:1\n"
+                        + "conflict,junit:junit,4.13,g:b:jar:1\n"
+                        + "conflict,org:lib,1.0,g:a:jar:1\n"
+                        + "conflict,org:lib,\"2.\"\"0\",g:b:jar:1\n"
+                        + "snapshot,org:snap,1.0-SNAPSHOT,g:a:jar:1\n",
+                summary().toCsv());
+    }
+
+    @Test
+    void write() throws Exception {
+        File file = new File(tempDir, "target/dependency-convergence.csv");
+        summary().write(file, ConvergenceSummary.CSV);
+
+        assertEquals(summary().toCsv(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(ConvergenceSummary.isSupportedFormat("xml"));
+        assertThrows(IllegalArgumentException.class, () -> summary().write(file, "xml"));
+    }
+
+    private static ConvergenceSummary summary() {
+        ConvergenceSummary summary = new ConvergenceSummary(2, 3, 5, 60);
+        summary.addConflict("junit:junit", "4.12", Arrays.asList("g:a:jar:1", "g:b:jar:1"));
+        summary.addConflict("junit:junit", "4.13", Collections.singletonList("g:b:jar:1"));
+        summary.addConflict("org:lib", "1.0", Collections.singletonList("g:a:jar:1"));
+        summary.addConflict("org:lib", "2.\"0", Collections.singletonList("g:b:jar:1"));
+        summary.addSnapshot("org:snap", "1.0-SNAPSHOT", "g:a:jar:1");
+        return summary;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CoordinateTableTest {
+
+    @Test
+    void idsAreDenseAndStable() {
+        CoordinateTable table = new CoordinateTable();
+
+        int junit = table.groupArtifactId("junit", "junit");
+        int hamcrest = table.groupArtifactId("org.hamcrest", "hamcrest-core");
+        assertEquals(0, junit);
+        assertEquals(1, hamcrest);
+        assertEquals(junit, table.groupArtifactId(new String("junit"), "junit"));
+
+        int junit412 = table.versionId(junit, "4.12");
+        int junit413 = table.versionId(junit, "4.13");
+        int hamcrest13 = table.versionId(hamcrest, "1.3");
+        assertEquals(junit412, table.versionId(junit, "4.12"));
+        assertNotEquals(junit412, junit413);
+        assertEquals(3, table.getVersionCount());
+
+        assertEquals("junit:junit", table.getKey(junit));
+        assertEquals("org.hamcrest", table.getGroupId(hamcrest));
+        assertEquals(hamcrest, table.getGroupArtifact(hamcrest13));
+        assertEquals("4.13", table.getVersion(junit413));
+    }
+
+    @Test
+    void tableGrows() {
+        CoordinateTable table = new CoordinateTable();
+
+        for (int i = 0; i < 1000; i++) {
+            int ga = table.groupArtifactId("org.example", "artifact" + i);
+            assertEquals(i, table.versionId(ga, "1.0"));
+        }
+
+        assertEquals(1000, table.getGroupArtifactCount());
+        assertEquals("org.example:artifact999", table.getKey(999));
+        assertEquals(999, table.getGroupArtifact(999));
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.jar.JarAnalyzer;
+import org.apache.maven.shared.jar.classes.JarClasses;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependenciesTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void indexedInTreeOrder() {
+        DependencyNode root = node(null, "project", "compile");
+        DependencyNode a = node(root, "a", "compile");
+        DependencyNode b = node(a, "b", "compile");
+        node(b, "c", "compile");
+        // a cycle back to the project is skipped with its children
+        DependencyNode cycle = node(a, "project", "compile");
+        node(cycle, "d", "compile");
+        node(root, "b", "compile");
+        DependencyNode e = node(root, "e", "test");
+        node(e, "c", "compile");
+
+        Dependencies dependencies = new Dependencies(project(), root, null);
+
+        assertTrue(dependencies.hasDependencies());
+        assertEquals(Arrays.asList("a", "b", "e"), ids(dependencies.getProjectDependencies()));
+        assertEquals(Arrays.asList("a", "b", "c", "e"), ids(dependencies.getAllDependencies()));
+        assertEquals(Collections.singletonList("c"), ids(dependencies.getTransitiveDependencies()));
+
+        Map<String, List<Artifact>> byScope = dependencies.getDependenciesByScope(false);
+        assertEquals(2, byScope.size());
+        assertEquals(Arrays.asList("a", "b"), ids(byScope.get("compile")));
+        assertEquals(Collections.singletonList("e"), ids(byScope.get("test")));
+
+        Map<String, List<Artifact>> transitiveByScope = dependencies.getDependenciesByScope(true);
+        assertEquals(1, transitiveByScope.size());
+        assertEquals(Collections.singletonList("c"), ids(transitiveByScope.get("compile")));
+
+        assertTrue(dependencies.containsDependency(b.getArtifact()));
+        assertTrue(dependencies.containsDependency(artifact("c", "compile")));
+        assertFalse(dependencies.containsDependency(artifact("d", "compile")));
+        assertFalse(dependencies.containsDependency(root.getArtifact()));
+
+        assertSame(dependencies.getAllDependencies(), dependencies.getAllDependencies());
+    }
+
+    @Test
+    void introducedViaNearestNode() {
+        DependencyNode root = node(null, "project", "compile");
+        DependencyNode a = node(root, "a", "compile");
+        DependencyNode b = node(a, "b", "compile");
+        node(b, "c", "compile");
+        DependencyNode e = node(root, "e", "compile");
+        DependencyNode f = node(e, "f", "compile");
+        node(f, "d", "compile");
+        node(e, "c", "compile");
+        node(b, "d", "compile");
+
+        Dependencies dependencies = new Dependencies(project(), root, null);
+
+        assertTrue(dependencies.getIntroducedVia(a.getArtifact()).isEmpty());
+        assertEquals(Collections.singletonList("a"), ids(dependencies.getIntroducedVia(b.getArtifact())));
+        // met first through a and b, but nearer through e
+        assertEquals(Collections.singletonList("e"), ids(dependencies.getIntroducedVia(artifact("c", "compile"))));
+        // at the same depth through a and b and through e and f, the first one in tree order
+        assertEquals(Arrays.asList("a", "b"), ids(dependencies.getIntroducedVia(artifact("d", "compile"))));
+        assertTrue(dependencies.getIntroducedVia(artifact("g", "compile")).isEmpty());
+    }
+
+    @Test
+    void noDependencies() {
+        Dependencies dependencies = new Dependencies(project(), node(null, "project", "compile"), null);
+
+        assertFalse(dependencies.hasDependencies());
+        assertTrue(dependencies.getAllDependencies().isEmpty());
+        assertTrue(dependencies.getDependenciesByScope(true).isEmpty());
+    }
+
+    @Test
+    void prefetchedJarSummariesMatchSerialAnalysis() throws Exception {
+        DependencyNode root = node(null, "project", "compile");
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Artifact artifact = node(root, "lib" + i, "compile").getArtifact();
+            artifact.setFile(jar(artifact.getArtifactId(), i));
+            artifacts.add(artifact);
+        }
+        Artifact broken = node(root, "broken", "compile").getArtifact();
+        broken.setFile(new File(tempDir, "broken.jar"));
+        Files.write(broken.getFile().toPath(), "not a jar".getBytes(StandardCharsets.UTF_8));
+        artifacts.add(broken);
+
+        Dependencies prefetched = new Dependencies(project(), root, new JarClassesAnalysis());
+        prefetched.prefetchJarSummaries(artifacts, 4);
+        Dependencies serial = new Dependencies(project(), root, new JarClassesAnalysis());
+
+        for (Artifact artifact : artifacts.subList(0, 6)) {
+            JarSummary expected = serial.getJarSummary(artifact);
+            JarSummary actual = prefetched.getJarSummary(artifact);
+            assertEquals(expected.getNumEntries(), actual.getNumEntries());
+            assertEquals(expected.getNumClasses(), actual.getNumClasses());
+            assertEquals(expected.getNumPackages(), actual.getNumPackages());
+        }
+        assertEquals(4, prefetched.getJarSummary(artifacts.get(4)).getNumEntries());
+
+        IOException expected = assertThrows(IOException.class, () -> serial.getJarSummary(broken));
+        IOException actual = assertThrows(IOException.class, () -> prefetched.getJarSummary(broken));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void interruptedAndUnexpectedFailuresAreNotKept() throws Exception {
+        DependencyNode root = node(null, "project", "compile");
+        List<Artifact> artifacts = new ArrayList<>();
+        for (String artifactId : Arrays.asList("interrupted", "unexpected", "lib")) {
+            Artifact artifact = node(root, artifactId, "compile").getArtifact();
+            artifact.setFile(jar(artifactId, 1));
+            artifacts.add(artifact);
+        }
+
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        JarClassesAnalysis classesAnalyzer = new JarClassesAnalysis() {
+            @Override
+            public JarClasses analyze(JarAnalyzer jarAnalyzer) {
+                String name = jarAnalyzer.getFile().getName();
+                if (name.equals("interrupted.jar") && failed.add(name)) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted");
+                }
+                if (name.equals("unexpected.jar") && failed.add(name)) {
+                    throw new IllegalStateException("unexpected");
+                }
+                return super.analyze(jarAnalyzer);
+            }
+        };
+
+        Dependencies dependencies = new Dependencies(project(), root, classesAnalyzer);
+        dependencies.prefetchJarSummaries(artifacts, 3);
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(2, failed.size());
+        for (Artifact artifact : artifacts) {
+            assertEquals(1, dependencies.getJarSummary(artifact).getNumEntries());
+        }
+    }
+
+    @Test
+    void switchingJarAnalysisDoesNotReuseCachedSummaries() throws Exception {
+        DependencyNode root = node(null, "project", "compile");
+        Artifact artifact = node(root, "lib", "compile").getArtifact();
+        artifact.setFile(jar("lib", 2));
+
+        AtomicInteger fullAnalyses = new AtomicInteger();
+        JarClassesAnalysis classesAnalyzer = new JarClassesAnalysis() {
+            @Override
+            public JarClasses analyze(JarAnalyzer jarAnalyzer) {
+                fullAnalyses.incrementAndGet();
+                return super.analyze(jarAnalyzer);
+            }
+        };
+        File cacheDirectory = new File(tempDir, "cache");
+
+        // each build is a new instance on the same cache directory
+        assertEquals(2, jarSummary(root, artifact, classesAnalyzer, cacheDirectory, true));
+        assertEquals(0, fullAnalyses.get());
+
+        assertEquals(2, jarSummary(root, artifact, classesAnalyzer, cacheDirectory, false));
+        assertEquals(1, fullAnalyses.get());
+        assertEquals(2, jarSummary(root, artifact, classesAnalyzer, cacheDirectory, false));
+        assertEquals(1, fullAnalyses.get());
+
+        assertEquals(2, jarSummary(root, artifact, classesAnalyzer, cacheDirectory, true));
+        assertEquals(2, jarSummary(root, artifact, classesAnalyzer, cacheDirectory, false));
+        assertEquals(2, fullAnalyses.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void jarSummaryAndDetailsAreMemoized() throws Exception {
+        DependencyNode root = node(null, "project", "compile");
+        Artifact artifact = node(root, "lib", "compile").getArtifact();
+        artifact.setFile(jar("lib", 2));
+
+        Dependencies dependencies = new Dependencies(project(), root, new JarClassesAnalysis());
+
+        JarSummary summary = dependencies.getJarSummary(artifact);
+        assertEquals(2, summary.getNumEntries());
+        assertTrue(summary.getVersionedRuntimes().isEmpty());
+        assertSame(summary, dependencies.getJarSummary(artifact));
+
+        assertSame(dependencies.getJarDependencyDetails(artifact), dependencies.getJarDependencyDetails(artifact));
+    }
+
+    private int jarSummary(
+            DependencyNode root,
+            Artifact artifact,
+            JarClassesAnalysis classesAnalyzer,
+            File cacheDirectory,
+            boolean lightweight)
+            throws IOException {
+        JarSummaryCache cache = new JarSummaryCache(cacheDirectory, false);
+        Dependencies dependencies = new Dependencies(project(), root, classesAnalyzer, cache, lightweight);
+        return dependencies.getJarSummary(artifact).getNumEntries();
+    }
+
+    private File jar(String name, int entries) throws IOException {
+        File file = new File(tempDir, name + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file.toPath()))) {
+            for (int i = 0; i < entries; i++) {
+                out.putNextEntry(new JarEntry("org/example/resource" + i + ".txt"));
+                out.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static List<String> ids(List<Artifact> artifacts) {
+        List<String> ids = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            ids.add(artifact.getArtifactId());
+        }
+        return ids;
+    }
+
+    private static MavenProject project() {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId("project");
+        project.setVersion("1.0");
+        return project;
+    }
+
+    private static Artifact artifact(String artifactId, String scope) {
+        return new DefaultArtifact(
+                "org.example", artifactId, "1.0", scope, "jar", null, new DefaultArtifactHandler("jar"));
+    }
+
+    private static DependencyNode node(DependencyNode parent, String artifactId, String scope) {
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact(artifactId, scope), null, null, null);
+        node.setChildren(new ArrayList<>());
+        if (parent != null) {
+            parent.getChildren().add(node);
+        }
+        return node;
+    }
+}
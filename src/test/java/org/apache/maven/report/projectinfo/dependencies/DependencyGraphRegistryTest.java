@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class DependencyGraphRegistryTest {
+
+    @Test
+    void graphIsSharedUntilReleased() {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        DependencyGraphRegistry registry = DependencyGraphRegistry.of(session);
+        assertSame(registry, DependencyGraphRegistry.of(session));
+
+        Model model = new Model();
+        model.setGroupId("org.example");
+        model.setArtifactId("example");
+        model.setVersion("1.0");
+        MavenProject project = new MavenProject(model);
+
+        AtomicInteger builds = new AtomicInteger();
+        DependencyGraphRegistry.GraphBuilder<RuntimeException> builder = () -> {
+            builds.incrementAndGet();
+            return mock(DependencyNode.class);
+        };
+
+        DependencyNode first = registry.get(project, DependencyGraphRegistry.COLLECTED, "none", builder);
+        assertSame(first, registry.get(project, DependencyGraphRegistry.COLLECTED, "none", builder));
+        assertNotSame(first, registry.get(project, DependencyGraphRegistry.RESOLVED, "none", builder));
+        assertEquals(2, builds.get());
+
+        registry.release(project, DependencyGraphRegistry.COLLECTED, "none");
+        assertNotSame(first, registry.get(project, DependencyGraphRegistry.COLLECTED, "none", builder));
+        assertEquals(3, builds.get());
+
+        assertEquals(3, registry.getBuiltCount());
+        assertEquals(1, registry.getReusedCount());
+        assertEquals("Dependency graph registry: 3 built, 1 reused", registry.getStatistics());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarSummaryCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void roundTrip() throws Exception {
+        File jar = file("example.jar", "content");
+
+        JarSummaryCache cache = new JarSummaryCache(new File(tempDir, "cache"), false);
+        assertNull(cache.get(jar, false));
+        cache.put(
+                jar,
+                false,
+                new JarSummary(
+                        12,
+                        8,
+                        5,
+                        2,
+                        "1.8",
+                        true,
+                        false,
+                        true,
+                        Arrays.asList(
+                                new JarSummary.VersionedRuntime(9, 3, 2, 1, "9", false),
+                                new JarSummary.VersionedRuntime(11, 1, 1, 1, null, true))));
+
+        JarSummary summary = cache.get(jar, false);
+        assertEquals(12, summary.getNumEntries());
+        assertEquals(8, summary.getNumRootEntries());
+        assertEquals(5, summary.getNumClasses());
+        assertEquals(2, summary.getNumPackages());
+        assertEquals("1.8", summary.getJdkRevision());
+        assertTrue(summary.isDebugPresent());
+        assertFalse(summary.isSealed());
+        assertTrue(summary.isMultiRelease());
+        assertEquals(2, summary.getVersionedRuntimes().size());
+
+        JarSummary.VersionedRuntime runtime = summary.getVersionedRuntimes().get(0);
+        assertEquals(9, runtime.getVersion());
+        assertEquals(3, runtime.getNumEntries());
+        assertEquals(2, runtime.getNumClasses());
+        assertEquals(1, runtime.getNumPackages());
+        assertEquals("9", runtime.getJdkRevision());
+        assertFalse(runtime.isDebugPresent());
+        assertNull(summary.getVersionedRuntimes().get(1).getJdkRevision());
+    }
+
+    @Test
+    void changedFileIsAMiss() throws Exception {
+        File jar = file("example.jar", "content");
+        JarSummaryCache cache = new JarSummaryCache(new File(tempDir, "cache"), false);
+        cache.put(jar, false, summary());
+
+        assertNull(cache.get(file("other.jar", "content"), false));
+
+        assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+        assertNull(cache.get(jar, false));
+
+        cache.put(jar, false, summary());
+        Files.write(jar.toPath(), "longer content".getBytes(StandardCharsets.UTF_8));
+        assertTrue(jar.setLastModified(jar.lastModified() - 20000));
+        cache.put(jar, false, summary());
+        Files.write(jar.toPath(), "changed content".getBytes(StandardCharsets.UTF_8));
+        assertNull(cache.get(jar, false));
+    }
+
+    @Test
+    void changedChecksumIsAMiss() throws Exception {
+        File jar = file("example.jar", "content");
+        long lastModified = jar.lastModified();
+        JarSummaryCache cache = new JarSummaryCache(new File(tempDir, "cache"), true);
+        cache.put(jar, false, summary());
+        assertNotNull(cache.get(jar, false));
+
+        // same size and modification time, other content
+        Files.write(jar.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+        assertTrue(jar.setLastModified(lastModified));
+        assertNotNull(new JarSummaryCache(new File(tempDir, "cache"), false).get(jar, false));
+        assertNull(cache.get(jar, false));
+    }
+
+    @Test
+    void otherAnalysisIsAMiss() throws Exception {
+        File jar = file("example.jar", "content");
+        JarSummaryCache cache = new JarSummaryCache(new File(tempDir, "cache"), false);
+
+        cache.put(jar, true, summary());
+        assertNotNull(cache.get(jar, true));
+        assertNull(cache.get(jar, false));
+
+        cache.put(jar, false, summary());
+        assertNotNull(cache.get(jar, false));
+        assertNull(cache.get(jar, true));
+    }
+
+    private File file(String name, String content) throws Exception {
+        File file = new File(tempDir, name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static JarSummary summary() {
+        return new JarSummary(1, 1, 0, 0, null, false, false, false, null);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.apache.maven.shared.jar.JarAnalyzer;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.util.IOUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarSummaryScannerTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void sameSummaryAsFullAnalysisOfClasspath() throws Exception {
+        List<File> jars = new ArrayList<>();
+        for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (path.endsWith(".jar") && new File(path).isFile()) {
+                jars.add(new File(path));
+            }
+        }
+        assertTrue(jars.size() > 10);
+
+        for (File jar : jars) {
+            assertSameSummary(jar);
+        }
+    }
+
+    @Test
+    void sameSummaryAsFullAnalysisOfMultiReleaseJar() throws Exception {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.SEALED, "true");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+
+        File jar = new File(tempDir, "multi-release.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()), manifest)) {
+            add(out, "org/", new byte[0], false);
+            add(out, JarSummary.class, false);
+            add(out, JarSummaryScanner.class, true);
+            add(out, org.apache.maven.report.projectinfo.ProjectInfoReportUtils.class, true);
+            add(out, "org/example/Broken.class", "not a class".getBytes(StandardCharsets.UTF_8), false);
+            add(out, "META-INF/versions/9/" + path(JarSummary.class), classBytes(JarSummary.class), true);
+            add(out, "META-INF/versions/11/" + path(Dependencies.class), classBytes(Dependencies.class), false);
+            add(out, "META-INF/versions/11/readme.txt", new byte[10], false);
+        }
+
+        JarSummary summary = assertSameSummary(jar);
+        assertTrue(summary.isMultiRelease());
+        assertTrue(summary.isSealed());
+        assertEquals(2, summary.getVersionedRuntimes().size());
+    }
+
+    @Test
+    void jdkRevisionOfAnyClassVersion() throws Exception {
+        assertEquals("1.8", getJdkRevision(52, 0));
+        assertEquals("25", getJdkRevision(69, 0));
+        assertEquals("26", getJdkRevision(70, 0));
+        assertEquals("31", getJdkRevision(75, 0xFFFF));
+    }
+
+    @Test
+    void notAZipArchive() throws Exception {
+        File file = new File(tempDir, "broken.jar");
+        Files.write(file.toPath(), "not a jar".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> JarSummaryScanner.scan(file));
+    }
+
+    private String getJdkRevision(int major, int minor) throws IOException {
+        byte[] content = classBytes(JarSummary.class);
+        ByteBuffer.wrap(content).putShort(4, (short) minor).putShort(6, (short) major);
+
+        File jar = new File(tempDir, "class-" + major + "-" + minor + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            add(out, path(JarSummary.class), content, false);
+        }
+        return JarSummaryScanner.scan(jar).getJdkRevision();
+    }
+
+    private static JarSummary assertSameSummary(File jar) throws IOException {
+        JarAnalyzer analyzer = new JarAnalyzer(jar);
+        try {
+            new JarClassesAnalysis().analyze(analyzer);
+        } finally {
+            analyzer.closeQuietly();
+        }
+        JarSummary expected = JarSummary.of(analyzer.getJarData());
+        JarSummary actual = JarSummaryScanner.scan(jar);
+
+        assertEquals(toString(expected), toString(actual), jar.getName());
+        return actual;
+    }
+
+    private static String toString(JarSummary summary) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(summary.getNumEntries()).append(' ').append(summary.getNumRootEntries()).append(' ');
+        sb.append(summary.getNumClasses()).append(' ').append(summary.getNumPackages()).append(' ');
+        sb.append(summary.getJdkRevision()).append(' ').append(summary.isDebugPresent()).append(' ');
+        sb.append(summary.isSealed()).append(' ').append(summary.isMultiRelease());
+        for (JarSummary.VersionedRuntime runtime : summary.getVersionedRuntimes()) {
+            sb.append(" [").append(runtime.getVersion()).append(' ').append(runtime.getNumEntries()).append(' ');
+            sb.append(runtime.getNumClasses()).append(' ').append(runtime.getNumPackages()).append(' ');
+            sb.append(runtime.getJdkRevision()).append(' ').append(runtime.isDebugPresent()).append(']');
+        }
+        return sb.toString();
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            return IOUtil.toByteArray(in);
+        }
+    }
+
+    private static String path(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static void add(JarOutputStream out, Class<?> type, boolean stored) throws IOException {
+        add(out, path(type), classBytes(type), stored);
+    }
+
+    private static void add(JarOutputStream out, String name, byte[] content, boolean stored) throws IOException {
+        JarEntry entry = new JarEntry(name);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PomMetadataReaderTest {
+
+    @TempDir
+    File directory;
+
+    private PomMetadataReader reader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        when(repositorySystem.resolveArtifact(any(RepositorySystemSession.class), any(ArtifactRequest.class)))
+                .thenAnswer(invocation -> {
+                    ArtifactRequest request = invocation.getArgument(1);
+                    Artifact artifact = request.getArtifact();
+                    File file = new File(directory, artifact.getArtifactId() + ".pom");
+                    ArtifactResult result = new ArtifactResult(request);
+                    result.setArtifact(artifact.setFile(file));
+                    return result;
+                });
+
+        reader = new PomMetadataReader(
+                repositorySystem, new DefaultRepositorySystemSession(), Collections.emptyList());
+
+        pom(
+                "parent",
+                "<groupId>org.example</groupId><artifactId>parent</artifactId><version>1</version>"
+                        + "<packaging>pom</packaging><name>Parent</name><description>Parent description</description>"
+                        + "<url>https://example.org/</url>"
+                        + "<licenses><license><name>Apache-2.0</name></license></licenses>"
+                        + "<modules><module>libs/child</module></modules>");
+    }
+
+    @Test
+    void inheritedFields() throws Exception {
+        pom(
+                "child",
+                "<parent><groupId>org.example</groupId><artifactId>parent</artifactId><version>1</version></parent>"
+                        + "<artifactId>child</artifactId>");
+
+        ProjectMetadata metadata = reader.read("org.example", "child", "1");
+        assertEquals("child", metadata.getName());
+        assertEquals("Parent description", metadata.getDescription());
+        assertEquals("https://example.org/libs/child/", metadata.getUrl());
+        assertEquals("Apache-2.0", metadata.getLicenses().get(0).getName());
+    }
+
+    @Test
+    void expressionNeedsFullBuild() throws Exception {
+        pom(
+                "child",
+                "<parent><groupId>org.example</groupId><artifactId>parent</artifactId><version>1</version></parent>"
+                        + "<artifactId>child</artifactId><name>${project.artifactId}</name>");
+
+        assertNull(reader.read("org.example", "child", "1"));
+    }
+
+    private void pom(String artifactId, String content) throws Exception {
+        String pom = "<project><modelVersion>4.0.0</modelVersion>" + content + "</project>";
+        Files.write(new File(directory, artifactId + ".pom").toPath(), pom.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.maven.model.License;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProjectMetadataCacheTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void roundTrip() {
+        License apache = new License();
+        apache.setName("Apache-2.0");
+        apache.setUrl("https://www.apache.org/licenses/LICENSE-2.0.txt");
+        License unnamed = new License();
+
+        ProjectMetadataCache cache = new ProjectMetadataCache(directory);
+        cache.put(
+                "org.example",
+                "example",
+                "1.0",
+                "abc",
+                false,
+                new ProjectMetadata(
+                        "org.example",
+                        "example",
+                        "1.0",
+                        "Example",
+                        null,
+                        "https://example.org",
+                        Arrays.asList(apache, unnamed)));
+
+        ProjectMetadata metadata = cache.get("org.example", "example", "1.0", "abc", false);
+        assertEquals("1.0", metadata.getVersion());
+        assertEquals("Example", metadata.getName());
+        assertNull(metadata.getDescription());
+        assertEquals("https://example.org", metadata.getUrl());
+        assertEquals(2, metadata.getLicenses().size());
+        assertEquals("Apache-2.0", metadata.getLicenses().get(0).getName());
+        assertEquals(
+                "https://www.apache.org/licenses/LICENSE-2.0.txt",
+                metadata.getLicenses().get(0).getUrl());
+        assertNull(metadata.getLicenses().get(1).getName());
+    }
+
+    @Test
+    void changedChecksumIsAMiss() {
+        ProjectMetadataCache cache = new ProjectMetadataCache(directory);
+        ProjectMetadata metadata = new ProjectMetadata("org.example", "example", "1.0", "Example", null, null, null);
+        cache.put("org.example", "example", "1.0", "abc", false, metadata);
+
+        assertNull(cache.get("org.example", "example", "1.0", "def", false));
+        assertNull(cache.get("org.example", "example", "1.1", "abc", false));
+    }
+
+    @Test
+    void otherReaderIsAMiss() {
+        ProjectMetadataCache cache = new ProjectMetadataCache(directory);
+        ProjectMetadata metadata = new ProjectMetadata("org.example", "example", "1.0", "Example", null, null, null);
+
+        cache.put("org.example", "example", "1.0", "abc", true, metadata);
+        assertNotNull(cache.get("org.example", "example", "1.0", "abc", true));
+        assertNull(cache.get("org.example", "example", "1.0", "abc", false));
+
+        cache.put("org.example", "example", "1.0", "abc", false, metadata);
+        assertNotNull(cache.get("org.example", "example", "1.0", "abc", false));
+        assertNull(cache.get("org.example", "example", "1.0", "abc", true));
+    }
+
+    @Test
+    void failureExpires() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(directory);
+        cache.putFailure("org.example", "example", "1.0", " central=https://repo", "Connection timed out");
+
+        assertEquals(
+                "Connection timed out",
+                cache.getFailure("org.example", "example", "1.0", " central=https://repo", 60000L));
+        assertNull(cache.getFailure("org.example", "example", "1.1", " central=https://repo", 60000L));
+        // a module with other repositories may build it
+        assertNull(cache.getFailure("org.example", "example", "1.0", " other=https://other", 60000L));
+
+        Thread.sleep(5L);
+        assertNull(cache.getFailure("org.example", "example", "1.0", " central=https://repo", 1L));
+    }
+
+    @Test
+    void lineageChecksumCoversParents() throws Exception {
+        File parent = pom("parent", "<description>Inherited</description>");
+        File child = pom("child", "<parent><groupId>org.example</groupId><artifactId>parent</artifactId>"
+                + "<version>1.0</version></parent>");
+
+        String checksum = ProjectMetadataCache.lineageChecksum(child, p -> new File(directory, p.getArtifactId()));
+        assertNotNull(checksum);
+        assertNotEquals(ProjectMetadataCache.checksum(child), checksum);
+        assertEquals(checksum, ProjectMetadataCache.lineageChecksum(child, p -> parent));
+
+        // a re-released parent changes the inherited metadata
+        pom("parent", "<description>Changed</description>");
+        assertNotEquals(checksum, ProjectMetadataCache.lineageChecksum(child, p -> parent));
+
+        assertNull(ProjectMetadataCache.lineageChecksum(child, p -> new File(directory, "missing")));
+
+        File interpolated = pom("interpolated", "<parent><groupId>org.example</groupId><artifactId>parent</artifactId>"
+                + "<version>${revision}</version></parent>");
+        assertNull(ProjectMetadataCache.lineageChecksum(interpolated, p -> parent));
+    }
+
+    private File pom(String name, String content) throws Exception {
+        File file = new File(directory, name);
+        String pom = "<project><modelVersion>4.0.0</modelVersion>" + content + "<artifactId>" + name
+                + "</artifactId></project>";
+        Files.write(file.toPath(), pom.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectMetadataMemoTest {
+
+    @Test
+    void loadsEachKeyOnce() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(session);
+        assertSame(memo, ProjectMetadataMemo.of(session));
+
+        AtomicInteger loads = new AtomicInteger();
+        ProjectMetadata first = memo.get("g:a:1", () -> {
+            loads.incrementAndGet();
+            return new ProjectMetadata("g", "a", "1", "a", null, null, null);
+        });
+        ProjectMetadata second = memo.get("g:a:1", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, memo.getHits());
+        assertEquals(1, memo.getMisses());
+    }
+
+    @Test
+    void failuresAreMemoized() {
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(new DefaultRepositorySystemSession());
+
+        AtomicInteger loads = new AtomicInteger();
+        ProjectBuildingException first = assertThrows(ProjectBuildingException.class, () -> memo.get("g:a:1", () -> {
+            loads.incrementAndGet();
+            throw new ProjectBuildingException("g:a:1", "missing", (Throwable) null);
+        }));
+        ProjectBuildingException second =
+                assertThrows(ProjectBuildingException.class, () -> memo.get("g:a:1", () -> null));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(Collections.singletonList("g:a:1: missing for project g:a:1"), memo.drainFailures());
+        assertTrue(memo.drainFailures().isEmpty());
+    }
+
+    @Test
+    void contextsAreLoadedSeparately() throws Exception {
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(new DefaultRepositorySystemSession());
+
+        ProjectMetadata central = memo.get("g:a:1", "full central=https://repo", () -> metadata("central"));
+        ProjectMetadata other = memo.get("g:a:1", "full other=https://other", () -> metadata("other"));
+        assertThrows(ProjectBuildingException.class, () -> memo.get("g:a:1", "lightweight central=https://repo", () -> {
+            throw new ProjectBuildingException("g:a:1", "missing", (Throwable) null);
+        }));
+
+        assertEquals("central", central.getName());
+        assertEquals("other", other.getName());
+        assertSame(central, memo.get("g:a:1", "full central=https://repo", () -> null));
+        assertEquals(3, memo.getMisses());
+        assertEquals(Collections.singletonList("g:a:1: missing for project g:a:1"), memo.drainFailures());
+    }
+
+    @Test
+    void reactorProjectsAreIndexedOnce() {
+        ProjectMetadataMemo memo = ProjectMetadataMemo.of(new DefaultRepositorySystemSession());
+        MavenProject project = new MavenProject();
+        project.setGroupId("g");
+        project.setArtifactId("module");
+        project.setVersion("1");
+        List<MavenProject> projects = new ArrayList<>(Collections.singletonList(project));
+
+        assertTrue(memo.isReactorProject("g:module:1", projects));
+        assertFalse(memo.isReactorProject("g:module:2", projects));
+        assertFalse(memo.isReactorProject("g:a:1", projects));
+
+        // the reactor does not change during the session, it is not read again
+        projects.clear();
+        assertTrue(memo.isReactorProject("g:module:1", projects));
+    }
+
+    private static ProjectMetadata metadata(String name) {
+        return new ProjectMetadata("g", "a", "1", name, null, null, null);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.doxia.sink.Sink;
+import org.apache.maven.doxia.sink.impl.Xhtml5BaseSink;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.filter.ArtifactDependencyNodeFilter;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.FilteringDependencyNodeVisitor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SinkSerializingDependencyNodeVisitorTest {
+
+    @Test
+    void treeIsSerialized() {
+        DependencyNode root = node(null, "root");
+        DependencyNode a = node(root, "a");
+        node(a, "b");
+        DependencyNode c = node(a, "c");
+        node(c, "d");
+        DependencyNode e = node(root, "e");
+        node(e, "f");
+
+        StringWriter writer = new StringWriter();
+        Sink sink = new Xhtml5BaseSink(writer);
+        root.accept(new SinkSerializingDependencyNodeVisitor(sink));
+        sink.flush();
+
+        assertEquals(
+                "org.example:root:jar:1.0:compile\n"
+                        + "+- org.example:a:jar:1.0:compile\n"
+                        + "|  +- org.example:b:jar:1.0:compile\n"
+                        + "|  \\- org.example:c:jar:1.0:compile\n"
+                        + "|     \\- org.example:d:jar:1.0:compile\n"
+                        + "\\- org.example:e:jar:1.0:compile\n"
+                        + "   \\- org.example:f:jar:1.0:compile\n",
+                text(writer));
+    }
+
+    @Test
+    void filteredTreeKeepsBranchesOfHiddenSiblings() {
+        DependencyNode root = node(null, "root");
+        DependencyNode a = node(root, "a");
+        node(a, "b");
+        node(a, "hidden");
+        DependencyNode c = node(root, "c");
+        node(c, "d");
+        node(root, "hidden");
+
+        StringWriter writer = new StringWriter();
+        Sink sink = new Xhtml5BaseSink(writer);
+        DependencyNodeVisitor visitor = new FilteringDependencyNodeVisitor(
+                new SinkSerializingDependencyNodeVisitor(sink),
+                new ArtifactDependencyNodeFilter(artifact -> !"hidden".equals(artifact.getArtifactId())));
+        root.accept(visitor);
+        sink.flush();
+
+        // the last visible child is not the last child: it keeps the branch of a child followed by siblings
+        assertEquals(
+                "org.example:root:jar:1.0:compile\n"
+                        + "+- org.example:a:jar:1.0:compile\n"
+                        + "|  +- org.example:b:jar:1.0:compile\n"
+                        + "+- org.example:c:jar:1.0:compile\n"
+                        + "|  \\- org.example:d:jar:1.0:compile\n",
+                text(writer));
+    }
+
+    private static String text(StringWriter writer) {
+        return writer.toString().replace("&#160;", " ").replace("<br />", "\n");
+    }
+
+    private static DependencyNode node(DependencyNode parent, String artifactId) {
+        DefaultDependencyNode node = new DefaultDependencyNode(
+                parent,
+                new DefaultArtifact(
+                        "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar")),
+                null,
+                null,
+                null);
+        node.setChildren(new ArrayList<>());
+        if (parent != null) {
+            parent.getChildren().add(node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.doxia.sink.impl.Xhtml5BaseSink;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.report.projectinfo.dependencies.Dependencies;
+import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.i18n.I18N;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DependenciesRendererTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void unresolvedArtifactsAreReportedAndSkipped() throws Exception {
+        Artifact present = artifact("present", jar("present"));
+        Artifact resolved = artifact("resolved", null);
+        Artifact failed = artifact("failed", null);
+        File resolvedFile = jar("resolved");
+
+        RepositoryUtils repoUtils = mock(RepositoryUtils.class);
+        when(repoUtils.getProjectMetadata(any(Artifact.class), any(DependenciesReportConfiguration.class)))
+                .thenThrow(new ProjectBuildingException("org.example:project:1.0", "no metadata", (Throwable) null));
+        // one batch for the artifacts without file: the resolved file is set even though the batch fails
+        doAnswer(invocation -> {
+                    List<Artifact> unresolved = invocation.getArgument(0);
+                    assertEquals(Arrays.asList(failed, resolved), unresolved);
+                    resolved.setFile(resolvedFile);
+                    throw new ArtifactResolutionException(
+                            Arrays.asList(result("failed", null), result("resolved", resolvedFile)));
+                })
+                .when(repoUtils)
+                .resolve(anyList());
+
+        DependencyNode root = root(present, resolved, failed);
+        CapturingLog log = new CapturingLog();
+        StringWriter writer = new StringWriter();
+        new DependenciesRenderer(
+                        new Xhtml5BaseSink(writer),
+                        Locale.ROOT,
+                        i18n(),
+                        log,
+                        new Dependencies(project(), root, new JarClassesAnalysis()),
+                        root,
+                        new DependenciesReportConfiguration(true),
+                        repoUtils,
+                        Collections.emptyMap())
+                .render();
+
+        verify(repoUtils).resolve(anyList());
+        assertEquals(1, log.errors.size(), log.errors.toString());
+        assertTrue(log.errors.get(0).startsWith("Artifact org.example:failed:jar:1.0 can't be resolved."));
+        assertEquals(
+                Collections.singletonList("Artifact org.example:failed:jar:1.0 has no file and won't be listed"
+                        + " in dependency files details."),
+                log.warnings);
+
+        String html = writer.toString();
+        assertTrue(html.contains(">present.jar</td>"), html);
+        assertTrue(html.contains(">resolved.jar</td>"), html);
+        assertFalse(html.contains("failed.jar"), html);
+    }
+
+    private File jar(String name) throws IOException {
+        File file = new File(tempDir, name + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.putNextEntry(new JarEntry("org/example/resource.txt"));
+            out.closeEntry();
+        }
+        return file;
+    }
+
+    private static ArtifactResult result(String artifactId, File file) {
+        ArtifactResult result = new ArtifactResult(new ArtifactRequest());
+        if (file != null) {
+            String coordinates = "org.example:" + artifactId + ":1.0";
+            result.setArtifact(new org.eclipse.aether.artifact.DefaultArtifact(coordinates).setFile(file));
+        }
+        return result;
+    }
+
+    private static I18N i18n() {
+        I18N i18n = mock(I18N.class);
+        when(i18n.getString(anyString(), any(Locale.class), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+        return i18n;
+    }
+
+    private static MavenProject project() {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId("project");
+        project.setVersion("1.0");
+        return project;
+    }
+
+    private static DependencyNode root(Artifact... artifacts) {
+        DefaultDependencyNode root = new DefaultDependencyNode(null, artifact("project", null), null, null, null);
+        root.setChildren(new ArrayList<>());
+        for (Artifact artifact : artifacts) {
+            DefaultDependencyNode child = new DefaultDependencyNode(root, artifact, null, null, null);
+            child.setChildren(new ArrayList<>());
+            root.getChildren().add(child);
+        }
+        return root;
+    }
+
+    private static Artifact artifact(String artifactId, File file) {
+        Artifact artifact = new DefaultArtifact(
+                "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        artifact.setFile(file);
+        return artifact;
+    }
+
+    private static class CapturingLog extends SystemStreamLog {
+        private final List<String> errors = new ArrayList<>();
+
+        private final List<String> warnings = new ArrayList<>();
+
+        @Override
+        public void error(CharSequence content) {
+            errors.add(content.toString());
+        }
+
+        @Override
+        public void error(CharSequence content, Throwable error) {
+            errors.add(content.toString());
+        }
+
+        @Override
+        public void warn(CharSequence content) {
+            warnings.add(content.toString());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.dependencies.Dependencies;
+import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer.TotalCell;
+import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer.TotalCell.SummaryTableRowOrder;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyFileDetailsTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void rowsAndTotalsInOnePass() throws Exception {
+        Artifact plain = artifact("plain", "compile", "jar", jar("plain", false, 3));
+        Artifact sealed = artifact("sealed", "test", "jar", jar("sealed", true, 2));
+        Artifact pom = artifact("parent", "compile", "pom", file("parent.pom", "<project/>"));
+        Artifact broken = artifact("broken", "runtime", "jar", file("broken.jar", "not a jar"));
+        Artifact missing = artifact("missing", "compile", "jar", null);
+
+        DependencyFileDetails details = DependencyFileDetails.compute(
+                dependencies(), Arrays.asList(plain, sealed, pom, broken, missing), log());
+
+        List<DependencyFileDetails.Row> rows = details.getRows();
+        assertEquals(4, rows.size());
+        assertEquals("plain.jar", rows.get(0).getName());
+        assertEquals(4, rows.get(0).getSummary().getNumEntries());
+        assertFalse(rows.get(0).getSummary().isSealed());
+        assertTrue(rows.get(1).getSummary().isSealed());
+        assertNull(rows.get(2).getSummary());
+        assertNull(rows.get(2).getFailure());
+        assertNull(rows.get(3).getSummary());
+        assertNotNull(rows.get(3).getFailure());
+
+        assertTrue(details.hasSealed());
+        assertEquals(4, details.getTotalDependencies()[SummaryTableRowOrder.TOTALS.ordinal()]);
+        assertEquals(2, details.getTotalDependencies()[SummaryTableRowOrder.COMPILE_SCOPE.ordinal()]);
+        assertEquals(1, details.getTotalDependencies()[SummaryTableRowOrder.RUNTIME_SCOPE.ordinal()]);
+        assertEquals(7, details.getTotalEntries()[SummaryTableRowOrder.TOTALS.ordinal()]);
+        assertEquals(3, details.getTotalEntries()[SummaryTableRowOrder.TEST_SCOPE.ordinal()]);
+        // without classes there is no JDK revision, and the debug and sealed cells stay empty
+        assertEquals(0, details.getTotalSealed()[SummaryTableRowOrder.TOTALS.ordinal()]);
+
+        // the totals are values: changing the returned copy does not change the details
+        details.getTotalDependencies()[SummaryTableRowOrder.TOTALS.ordinal()] = 0;
+        assertEquals(4, details.getTotalDependencies()[SummaryTableRowOrder.TOTALS.ordinal()]);
+
+        TotalCell cell = new TotalCell(details.getTotalDependencies(), null);
+        assertEquals("runtime: 1", cell.getTotalString(SummaryTableRowOrder.RUNTIME_SCOPE));
+        assertEquals(0.0, details.getHighestTestJavaVersion());
+    }
+
+    @Test
+    void noSealedColumnWithoutSealedJar() throws Exception {
+        Artifact plain = artifact("plain", "compile", "jar", jar("plain", false, 1));
+
+        DependencyFileDetails details = DependencyFileDetails.compute(dependencies(), Arrays.asList(plain), log());
+
+        assertFalse(details.hasSealed());
+        assertEquals(1, details.getRows().size());
+    }
+
+    private File jar(String name, boolean sealed, int entries) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (sealed) {
+            manifest.getMainAttributes().put(Attributes.Name.SEALED, "true");
+        }
+
+        File file = new File(tempDir, name + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file.toPath()), manifest)) {
+            for (int i = 0; i < entries; i++) {
+                out.putNextEntry(new JarEntry("org/example/resource" + i + ".txt"));
+                out.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private File file(String name, String content) throws IOException {
+        File file = new File(tempDir, name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static Dependencies dependencies() {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId("project");
+        project.setVersion("1.0");
+
+        DefaultDependencyNode root =
+                new DefaultDependencyNode(null, artifact("project", "compile", "jar", null), null, null, null);
+        root.setChildren(new ArrayList<>());
+        return new Dependencies(project, root, new JarClassesAnalysis());
+    }
+
+    private static Artifact artifact(String artifactId, String scope, String type, File file) {
+        Artifact artifact = new DefaultArtifact(
+                "org.example", artifactId, "1.0", scope, type, null, new DefaultArtifactHandler(type));
+        artifact.setFile(file);
+        return artifact;
+    }
+
+    private static SystemStreamLog log() {
+        return new SystemStreamLog();
+    }
+}